@@ -0,0 +1,310 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 🧱 ARMAZÉM COLUNAR: Pessoas guardadas por coluna, em arrays primitivos
+ *
+ * PHP: array_column($pessoas, 'salario') copia uma coluna a cada consulta
+ * Java: aqui a coluna JÁ é o array: int[] idades, double[] salarios...
+ *
+ * Em vez de milhões de objetos no heap (cada um com ponteiros para Strings),
+ * cada campo vira um array. Textos repetidos (linguagem, departamento) são
+ * codificados por dicionário: a coluna guarda um int e o texto existe uma vez.
+ * Agregações viram laços simples sobre arrays, sem boxing e sem GC.
+ *
+ * Para quem precisa da API de objetos, as visões (VisaoDesenvolvedor,
+ * VisaoGerente) são flyweights: um único objeto é reposicionado linha a
+ * linha e lê/escreve direto nas colunas.
+ */
+class ArmazemColunar {
+    static final byte DESENVOLVEDOR = 1;
+    static final byte GERENTE = 2;
+    private static final int SEM_CODIGO = -1;
+
+    // Colunas comuns
+    private long[] ids = new long[16];
+    private byte[] tipos = new byte[16];
+    private String[] nomes = new String[16];
+    private int[] idades = new int[16];
+    private String[] emails = new String[16];
+
+    // Colunas de Desenvolvedor (zero/SEM_CODIGO para Gerente)
+    private int[] linguagens = new int[16];
+    private int[] anosExperiencia = new int[16];
+    private double[] salarios = new double[16];
+
+    // Colunas de Gerente (zero/SEM_CODIGO para Desenvolvedor)
+    private int[] departamentos = new int[16];
+    private int[] tamanhosEquipe = new int[16];
+
+    private final Dicionario dicionarioLinguagens = new Dicionario();
+    private final Dicionario dicionarioDepartamentos = new Dicionario();
+    private int linhas;
+
+    /**
+     * Copia as linhas de um repository (leitura em stream, sem findAll)
+     */
+    public static ArmazemColunar de(Repository<Pessoa> repositorio) {
+        ArmazemColunar armazem = new ArmazemColunar();
+        repositorio.stream().forEach(armazem::adicionar);
+        return armazem;
+    }
+
+    public int size() { return linhas; }
+
+    /**
+     * Adiciona uma linha e retorna seu número (como um INSERT)
+     */
+    public int adicionar(Pessoa pessoa) {
+        garantirCapacidade(linhas + 1);
+        int linha = linhas++;
+        ids[linha] = pessoa.getId() == null ? 0 : pessoa.getId();
+        nomes[linha] = pessoa.getNome();
+        idades[linha] = pessoa.getIdade();
+        emails[linha] = pessoa.getEmail();
+        linguagens[linha] = SEM_CODIGO;
+        departamentos[linha] = SEM_CODIGO;
+
+        if (pessoa instanceof Desenvolvedor) {
+            Desenvolvedor dev = (Desenvolvedor) pessoa;
+            tipos[linha] = DESENVOLVEDOR;
+            linguagens[linha] = dicionarioLinguagens.codificar(dev.getLinguagemPrincipal());
+            anosExperiencia[linha] = dev.getAnosExperiencia();
+            salarios[linha] = dev.getSalario();
+        } else if (pessoa instanceof Gerente) {
+            Gerente gerente = (Gerente) pessoa;
+            tipos[linha] = GERENTE;
+            departamentos[linha] = dicionarioDepartamentos.codificar(gerente.getDepartamento());
+            tamanhosEquipe[linha] = gerente.getTamanhoEquipe();
+        } else {
+            linhas--;
+            throw new IllegalArgumentException("Tipo sem coluna: " + pessoa.getClass().getSimpleName());
+        }
+        return linha;
+    }
+
+    // ==========================================
+    // Acesso como objeto (flyweights)
+    // ==========================================
+
+    /**
+     * Visão nova para uma linha (para guardar a referência)
+     */
+    public Pessoa linha(int linha) {
+        verificarLinha(linha);
+        return tipos[linha] == DESENVOLVEDOR
+            ? new VisaoDesenvolvedor().posicionar(linha)
+            : new VisaoGerente().posicionar(linha);
+    }
+
+    /**
+     * Percorre os desenvolvedores com UM objeto reaproveitado.
+     * Não guarde a referência: na próxima linha ela aponta para outro dev.
+     */
+    public void forEachDesenvolvedor(Consumer<? super Desenvolvedor> acao) {
+        VisaoDesenvolvedor visao = new VisaoDesenvolvedor();
+        for (int i = 0; i < linhas; i++) {
+            if (tipos[i] == DESENVOLVEDOR) {
+                acao.accept(visao.posicionar(i));
+            }
+        }
+    }
+
+    public void forEachGerente(Consumer<? super Gerente> acao) {
+        VisaoGerente visao = new VisaoGerente();
+        for (int i = 0; i < linhas; i++) {
+            if (tipos[i] == GERENTE) {
+                acao.accept(visao.posicionar(i));
+            }
+        }
+    }
+
+    // ==========================================
+    // Agregações (laços sobre arrays primitivos)
+    // ==========================================
+
+    /**
+     * SELECT level, AVG(salario) FROM desenvolvedores GROUP BY level
+     */
+    public Map<String, Double> mediaSalarioPorLevel() {
+        // level → {soma, contagem}; a regra é sempre a de Desenvolvedor.levelDe
+        Map<String, double[]> grupos = new TreeMap<>();
+        int ultimosAnos = -1;
+        double[] ultimo = null;
+        for (int i = 0; i < linhas; i++) {
+            if (tipos[i] == DESENVOLVEDOR) {
+                int anos = anosExperiencia[i];
+                if (anos != ultimosAnos || ultimo == null) {
+                    ultimosAnos = anos;
+                    ultimo = grupos.computeIfAbsent(Desenvolvedor.levelDe(anos), level -> new double[2]);
+                }
+                ultimo[0] += salarios[i];
+                ultimo[1]++;
+            }
+        }
+        Map<String, Double> medias = new LinkedHashMap<>();
+        grupos.forEach((level, acumulado) -> medias.put(level, acumulado[0] / acumulado[1]));
+        return medias;
+    }
+
+    /**
+     * SELECT linguagem, AVG(salario) ... GROUP BY linguagem (agrupa pelo código do dicionário)
+     */
+    public Map<String, Double> mediaSalarioPorLinguagem() {
+        int distintos = dicionarioLinguagens.size();
+        double[] somas = new double[distintos];
+        int[] contagens = new int[distintos];
+        for (int i = 0; i < linhas; i++) {
+            int codigo = linguagens[i];
+            if (codigo != SEM_CODIGO) {
+                somas[codigo] += salarios[i];
+                contagens[codigo]++;
+            }
+        }
+        Map<String, Double> medias = new LinkedHashMap<>();
+        for (int codigo = 0; codigo < distintos; codigo++) {
+            if (contagens[codigo] > 0) {
+                medias.put(dicionarioLinguagens.decodificar(codigo), somas[codigo] / contagens[codigo]);
+            }
+        }
+        return medias;
+    }
+
+    /**
+     * SELECT departamento, SUM(tamanho_equipe) ... GROUP BY departamento
+     */
+    public Map<String, Long> totalEquipePorDepartamento() {
+        int distintos = dicionarioDepartamentos.size();
+        long[] totais = new long[distintos];
+        for (int i = 0; i < linhas; i++) {
+            int codigo = departamentos[i];
+            if (codigo != SEM_CODIGO) {
+                totais[codigo] += tamanhosEquipe[i];
+            }
+        }
+        Map<String, Long> resultado = new LinkedHashMap<>();
+        for (int codigo = 0; codigo < distintos; codigo++) {
+            resultado.put(dicionarioDepartamentos.decodificar(codigo), totais[codigo]);
+        }
+        return resultado;
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private void verificarLinha(int linha) {
+        if (linha < 0 || linha >= linhas) {
+            throw new IndexOutOfBoundsException("Linha " + linha + " (total: " + linhas + ")");
+        }
+    }
+
+    private void garantirCapacidade(int minimo) {
+        if (minimo <= ids.length) {
+            return;
+        }
+        int nova = Math.max(minimo, ids.length * 2);
+        ids = Arrays.copyOf(ids, nova);
+        tipos = Arrays.copyOf(tipos, nova);
+        nomes = Arrays.copyOf(nomes, nova);
+        idades = Arrays.copyOf(idades, nova);
+        emails = Arrays.copyOf(emails, nova);
+        linguagens = Arrays.copyOf(linguagens, nova);
+        anosExperiencia = Arrays.copyOf(anosExperiencia, nova);
+        salarios = Arrays.copyOf(salarios, nova);
+        departamentos = Arrays.copyOf(departamentos, nova);
+        tamanhosEquipe = Arrays.copyOf(tamanhosEquipe, nova);
+    }
+
+    /**
+     * 📖 DICIONÁRIO: texto ↔ código int (cada texto distinto é guardado uma vez)
+     */
+    private static final class Dicionario {
+        private final Map<String, Integer> codigos = new HashMap<>();
+        private final List<String> valores = new ArrayList<>();
+
+        int codificar(String valor) {
+            if (valor == null) {
+                return SEM_CODIGO;
+            }
+            Integer codigo = codigos.get(valor);
+            if (codigo == null) {
+                codigo = valores.size();
+                codigos.put(valor, codigo);
+                valores.add(valor);
+            }
+            return codigo;
+        }
+
+        String decodificar(int codigo) {
+            return codigo == SEM_CODIGO ? null : valores.get(codigo);
+        }
+
+        int size() { return valores.size(); }
+    }
+
+    /**
+     * 👨‍💻 Desenvolvedor que lê e escreve nas colunas da linha atual
+     */
+    final class VisaoDesenvolvedor extends Desenvolvedor {
+        private int linha;
+
+        private VisaoDesenvolvedor() {
+            super(null, 0, null, null, 0, 0.0); // Campos herdados não são usados
+        }
+
+        VisaoDesenvolvedor posicionar(int linha) {
+            this.linha = linha;
+            return this;
+        }
+
+        @Override public Long getId() { return ids[linha]; }
+        @Override public void setId(Long id) { ids[linha] = id == null ? 0 : id; }
+        @Override public String getNome() { return nomes[linha]; }
+        @Override public void setNome(String nome) { nomes[linha] = nome; }
+        @Override public int getIdade() { return idades[linha]; }
+        @Override public void setIdade(int idade) { idades[linha] = idade; }
+        @Override public String getEmail() { return emails[linha]; }
+        @Override public void setEmail(String email) { emails[linha] = email; }
+        @Override public String getLinguagemPrincipal() { return dicionarioLinguagens.decodificar(linguagens[linha]); }
+        @Override public void setLinguagemPrincipal(String linguagem) { linguagens[linha] = dicionarioLinguagens.codificar(linguagem); }
+        @Override public int getAnosExperiencia() { return anosExperiencia[linha]; }
+        @Override public double getSalario() { return salarios[linha]; }
+    }
+
+    /**
+     * 👩‍💼 Gerente que lê e escreve nas colunas da linha atual
+     */
+    final class VisaoGerente extends Gerente {
+        private int linha;
+
+        private VisaoGerente() {
+            super(null, 0, null, null, 0);
+        }
+
+        VisaoGerente posicionar(int linha) {
+            this.linha = linha;
+            return this;
+        }
+
+        @Override public Long getId() { return ids[linha]; }
+        @Override public void setId(Long id) { ids[linha] = id == null ? 0 : id; }
+        @Override public String getNome() { return nomes[linha]; }
+        @Override public void setNome(String nome) { nomes[linha] = nome; }
+        @Override public int getIdade() { return idades[linha]; }
+        @Override public void setIdade(int idade) { idades[linha] = idade; }
+        @Override public String getEmail() { return emails[linha]; }
+        @Override public void setEmail(String email) { emails[linha] = email; }
+        @Override public String getDepartamento() { return dicionarioDepartamentos.decodificar(departamentos[linha]); }
+        @Override public void setDepartamento(String departamento) { departamentos[linha] = dicionarioDepartamentos.codificar(departamento); }
+        @Override public int getTamanhoEquipe() { return tamanhosEquipe[linha]; }
+    }
+}
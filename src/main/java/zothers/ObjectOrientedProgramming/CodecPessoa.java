@@ -0,0 +1,118 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 🧬 CODEC: Pessoa ↔ bytes (formato binário compacto)
+ *
+ * PHP: serialize($pessoa) / unserialize($bytes)
+ * Java: aqui escrevemos o formato na mão (sem java.io.Serializable),
+ *       então ele é pequeno, estável e rápido de ler
+ *
+ * Layout: [tipo:1] [nome] [idade:4] [email] + campos da subclasse
+ *   Desenvolvedor: [linguagem] [anosExperiencia:4] [salario:8]
+ *   Gerente:       [departamento] [tamanhoEquipe:4]
+ * Strings: [tamanho:4] + bytes UTF-8 (tamanho -1 = null)
+ *
+ * O id não faz parte do payload: ele fica no cabeçalho do registro do log.
+ */
+final class CodecPessoa {
+    static final byte DESENVOLVEDOR = 1;
+    static final byte GERENTE = 2;
+
+    private CodecPessoa() {} // Só métodos estáticos (como uma classe utilitária PHP)
+
+    public static byte[] codificar(Pessoa pessoa) {
+        byte[] nome = utf8(pessoa.getNome());
+        byte[] email = utf8(pessoa.getEmail());
+        int base = 1 + tamanho(nome) + 4 + tamanho(email);
+
+        if (pessoa instanceof Desenvolvedor) {
+            Desenvolvedor dev = (Desenvolvedor) pessoa;
+            byte[] linguagem = utf8(dev.getLinguagemPrincipal());
+            ByteBuffer buffer = ByteBuffer.allocate(base + tamanho(linguagem) + 4 + 8);
+            escreverBase(buffer, DESENVOLVEDOR, nome, pessoa.getIdade(), email);
+            escrever(buffer, linguagem);
+            buffer.putInt(dev.getAnosExperiencia());
+            buffer.putDouble(dev.getSalario());
+            return buffer.array();
+        }
+        if (pessoa instanceof Gerente) {
+            Gerente gerente = (Gerente) pessoa;
+            byte[] departamento = utf8(gerente.getDepartamento());
+            ByteBuffer buffer = ByteBuffer.allocate(base + tamanho(departamento) + 4);
+            escreverBase(buffer, GERENTE, nome, pessoa.getIdade(), email);
+            escrever(buffer, departamento);
+            buffer.putInt(gerente.getTamanhoEquipe());
+            return buffer.array();
+        }
+        throw new IllegalArgumentException("Tipo de Pessoa sem codec: " + pessoa.getClass().getSimpleName());
+    }
+
+    /**
+     * Lê a partir da posição atual do buffer (que avança até o fim do registro)
+     */
+    public static Pessoa decodificar(long id, ByteBuffer buffer) {
+        byte tipo = buffer.get();
+        String nome = ler(buffer);
+        int idade = buffer.getInt();
+        String email = ler(buffer);
+
+        Pessoa pessoa;
+        switch (tipo) {
+            case DESENVOLVEDOR -> {
+                String linguagem = ler(buffer);
+                int anos = buffer.getInt();
+                double salario = buffer.getDouble();
+                pessoa = new Desenvolvedor(nome, idade, email, linguagem, anos, salario);
+            }
+            case GERENTE -> {
+                String departamento = ler(buffer);
+                int equipe = buffer.getInt();
+                pessoa = new Gerente(nome, idade, email, departamento, equipe);
+            }
+            default -> throw new IllegalStateException("Tipo de registro desconhecido: " + tipo);
+        }
+        pessoa.setId(id);
+        return pessoa;
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private static void escreverBase(ByteBuffer buffer, byte tipo, byte[] nome, int idade, byte[] email) {
+        buffer.put(tipo);
+        escrever(buffer, nome);
+        buffer.putInt(idade);
+        escrever(buffer, email);
+    }
+
+    private static byte[] utf8(String texto) {
+        return texto == null ? null : texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int tamanho(byte[] bytes) {
+        return 4 + (bytes == null ? 0 : bytes.length);
+    }
+
+    private static void escrever(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static String ler(ByteBuffer buffer) {
+        int tamanho = buffer.getInt();
+        if (tamanho < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
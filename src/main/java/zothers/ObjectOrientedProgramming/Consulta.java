@@ -0,0 +1,227 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 🔎 CONSULTA: Query builder tipado sobre qualquer Repository
+ *
+ * PHP (Eloquent): Pessoa::where('idade', '>', 30)->orderBy('salario')->limit(50)->get();
+ * Java: repository.query().where(p -> p.getIdade() > 30).ordenarPor(...).limite(50).listar();
+ *
+ * Como o planner de um banco, escolhe a origem dos dados:
+ * 1. Filtro em campo indexado → lê só o resultado do índice
+ * 2. Paginação por keyset (depoisDoId) em repository ordenado → "seek" direto
+ * 3. Senão → stream preguiçoso da tabela, sem copiar
+ *
+ * Ordenação com limite usa um heap de tamanho (offset + limite): uma página
+ * de 50 linhas nunca materializa a tabela inteira. O id é sempre o último
+ * critério de desempate, então páginas com chaves repetidas não se sobrepõem.
+ * Paginar sem ordenarPor() pagina por id, como o keyset de depoisDoId.
+ */
+class Consulta<T extends Identificavel> {
+    private static final Comparator<Identificavel> POR_ID = Comparator.comparing(Identificavel::getId);
+
+    protected final Repository<T> repositorio;
+    private final List<Predicate<? super T>> filtros = new ArrayList<>();
+    private String indice;
+    private String valorIndice;
+    private Comparator<? super T> ordem;
+    private long offset;
+    private long limite = Long.MAX_VALUE;
+    private Long depoisDoId;
+    private T depoisDe;
+
+    Consulta(Repository<T> repositorio) {
+        this.repositorio = repositorio;
+    }
+
+    /**
+     * Filtro qualquer (como ->where(fn ...))
+     */
+    public Consulta<T> where(Predicate<? super T> filtro) {
+        filtros.add(filtro);
+        return this;
+    }
+
+    /**
+     * Igualdade em campo que pode ter índice. Se o repository tiver o índice,
+     * ele vira a origem da consulta; senão o predicado equivalente é aplicado.
+     */
+    public Consulta<T> whereIndexado(String nomeIndice, String valor, Predicate<? super T> equivalente) {
+        if (indice == null && repositorio.hasIndex(nomeIndice)) {
+            indice = nomeIndice;
+            valorIndice = valor;
+        } else {
+            filtros.add(equivalente);
+        }
+        return this;
+    }
+
+    public Consulta<T> ordenarPor(Comparator<? super T> ordem) {
+        this.ordem = ordem;
+        return this;
+    }
+
+    public Consulta<T> offset(long offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset negativo: " + offset);
+        }
+        this.offset = offset;
+        return this;
+    }
+
+    public Consulta<T> limite(long limite) {
+        if (limite < 0) {
+            throw new IllegalArgumentException("Limite negativo: " + limite);
+        }
+        this.limite = limite;
+        return this;
+    }
+
+    /**
+     * 📑 Paginação por keyset (WHERE id > ? ORDER BY id LIMIT ?)
+     *
+     * Mais barata que offset em páginas profundas: passe o id da última
+     * linha da página anterior. Só vale com ordenação por id; com
+     * ordenarPor(), use depoisDe(ultimaLinha).
+     */
+    public Consulta<T> depoisDoId(long id) {
+        this.depoisDoId = id;
+        return this;
+    }
+
+    /**
+     * 📑 Keyset com ordenação qualquer: WHERE (chave, id) > (?, ?)
+     *
+     * Passe a última linha da página anterior; ela mesma é o cursor.
+     */
+    public Consulta<T> depoisDe(T ultimaLinha) {
+        this.depoisDe = ultimaLinha;
+        return this;
+    }
+
+    // ==========================================
+    // Execução
+    // ==========================================
+
+    public List<T> listar() {
+        List<T> resultado = new ArrayList<>();
+        stream().forEach(resultado::add);
+        return resultado;
+    }
+
+    public Optional<T> primeiro() {
+        return stream().findFirst();
+    }
+
+    public long contar() {
+        return stream().count();
+    }
+
+    /**
+     * Resultado como stream preguiçoso (nada é lido antes da operação terminal)
+     */
+    public Stream<T> stream() {
+        if (depoisDoId != null && ordem != null) {
+            throw new IllegalStateException("depoisDoId só vale com ordenação por id; use depoisDe(ultimaLinha)");
+        }
+        Comparator<? super T> ordemEfetiva = ordem == null ? null : comDesempate(ordem);
+        Long cursorId = depoisDoId;
+        if (depoisDe != null && ordem == null) {
+            cursorId = depoisDe.getId(); // Ordem por id: o cursor é só o id
+        }
+        Stream<T> origem;
+
+        if (indice != null) {
+            origem = repositorio.findByIndex(indice, valorIndice).stream();
+            if (cursorId != null) {
+                long cursor = cursorId;
+                origem = origem.filter(e -> e.getId() > cursor);
+                ordemEfetiva = POR_ID;
+            }
+        } else if (cursorId != null) {
+            if (repositorio.isOrdenadoPorId()) {
+                origem = repositorio.streamAfter(cursorId); // Seek: já vem em ordem de id
+            } else {
+                long cursor = cursorId;
+                origem = repositorio.stream().filter(e -> e.getId() > cursor);
+                ordemEfetiva = POR_ID;
+            }
+        } else {
+            origem = repositorio.stream();
+        }
+
+        // Paginado sem ordenarPor(): a página 1 precisa seguir a mesma ordem
+        // por id que as páginas de keyset, senão linhas de id menor somem
+        boolean pagina = offset > 0 || limite != Long.MAX_VALUE;
+        boolean jaPorId = indice == null && repositorio.isOrdenadoPorId();
+        if (ordemEfetiva == null && pagina && !jaPorId) {
+            ordemEfetiva = POR_ID;
+        }
+
+        if (depoisDe != null && ordem != null) {
+            Comparator<? super T> completa = ordemEfetiva;
+            T cursor = depoisDe;
+            origem = origem.filter(e -> completa.compare(e, cursor) > 0);
+        }
+        for (Predicate<? super T> filtro : filtros) {
+            origem = origem.filter(filtro);
+        }
+
+        if (ordemEfetiva != null) {
+            origem = ordenar(origem, ordemEfetiva);
+        }
+        if (offset > 0) {
+            origem = origem.skip(offset);
+        }
+        if (limite != Long.MAX_VALUE) {
+            origem = origem.limit(limite);
+        }
+        return origem;
+    }
+
+    /**
+     * Ordem pedida e, no empate, id crescente (ordem total: paginação estável)
+     */
+    private static <T extends Identificavel> Comparator<T> comDesempate(Comparator<? super T> ordem) {
+        return (a, b) -> {
+            int comparacao = ordem.compare(a, b);
+            return comparacao != 0 ? comparacao : POR_ID.compare(a, b);
+        };
+    }
+
+    /**
+     * Top-K: com limite, mantém só as (offset + limite) melhores linhas num heap
+     */
+    private Stream<T> ordenar(Stream<T> origem, Comparator<? super T> comparador) {
+        if (limite == Long.MAX_VALUE || offset + limite > Integer.MAX_VALUE) {
+            return origem.sorted(comparador);
+        }
+        int k = (int) (offset + limite);
+        if (k == 0) {
+            return Stream.empty();
+        }
+        // flatMap adia a leitura até a operação terminal (continua preguiçoso)
+        return Stream.of(k).flatMap(tamanho -> melhores(origem, comparador, tamanho).stream());
+    }
+
+    private List<T> melhores(Stream<T> origem, Comparator<? super T> comparador, int k) {
+        // Heap "ao contrário": a pior linha fica no topo e sai primeiro
+        PriorityQueue<T> heap = new PriorityQueue<>(Math.min(k, 1024) + 1, comparador.reversed());
+        origem.forEach(linha -> {
+            heap.offer(linha);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        });
+        List<T> melhores = new ArrayList<>(heap);
+        melhores.sort(comparador);
+        return melhores;
+    }
+}
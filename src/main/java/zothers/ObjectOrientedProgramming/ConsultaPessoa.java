@@ -0,0 +1,111 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * 👥 CONSULTA DE PESSOAS: Filtros tipados sobre Consulta
+ *
+ * PHP (Eloquent): Pessoa::whereBetween('idade', [25, 40])->where('linguagem', 'Java')->get();
+ * Java: repository.query().idadeEntre(25, 40).linguagem("Java").listar();
+ *
+ * linguagem() e departamento() usam os índices do repository quando existem;
+ * sem índice, comparam do mesmo jeito (IndiceSecundario.mesmaChave).
+ * Os métodos herdados são sobrescritos só para devolver ConsultaPessoa
+ * e manter o encadeamento tipado.
+ */
+class ConsultaPessoa extends Consulta<Pessoa> {
+
+    ConsultaPessoa(Repository<Pessoa> repositorio) {
+        super(repositorio);
+    }
+
+    public ConsultaPessoa idadeEntre(int minima, int maxima) {
+        where(p -> p.getIdade() >= minima && p.getIdade() <= maxima);
+        return this;
+    }
+
+    /**
+     * Filtra pela classe (como instanceof): tipo(Desenvolvedor.class)
+     */
+    public ConsultaPessoa tipo(Class<? extends Pessoa> classe) {
+        where(classe::isInstance);
+        return this;
+    }
+
+    public ConsultaPessoa linguagem(String linguagem) {
+        whereIndexado("linguagem", linguagem, p -> p instanceof Desenvolvedor
+            && IndiceSecundario.mesmaChave(linguagem, ((Desenvolvedor) p).getLinguagemPrincipal()));
+        return this;
+    }
+
+    public ConsultaPessoa departamento(String departamento) {
+        whereIndexado("departamento", departamento, p -> p instanceof Gerente
+            && IndiceSecundario.mesmaChave(departamento, ((Gerente) p).getDepartamento()));
+        return this;
+    }
+
+    /**
+     * Faixa salarial: só Desenvolvedor tem salário, então filtra o tipo também
+     */
+    public ConsultaPessoa salarioEntre(double minimo, double maximo) {
+        where(p -> p instanceof Desenvolvedor
+            && ((Desenvolvedor) p).getSalario() >= minimo
+            && ((Desenvolvedor) p).getSalario() <= maximo);
+        return this;
+    }
+
+    public ConsultaPessoa ordenarPorIdade() {
+        ordenarPor(Comparator.comparingInt(Pessoa::getIdade));
+        return this;
+    }
+
+    public ConsultaPessoa ordenarPorSalarioDesc() {
+        ordenarPor(Comparator.comparingDouble(ConsultaPessoa::salario).reversed());
+        return this;
+    }
+
+    // ==========================================
+    // Encadeamento tipado
+    // ==========================================
+
+    @Override
+    public ConsultaPessoa where(Predicate<? super Pessoa> filtro) {
+        super.where(filtro);
+        return this;
+    }
+
+    @Override
+    public ConsultaPessoa ordenarPor(Comparator<? super Pessoa> ordem) {
+        super.ordenarPor(ordem);
+        return this;
+    }
+
+    @Override
+    public ConsultaPessoa offset(long offset) {
+        super.offset(offset);
+        return this;
+    }
+
+    @Override
+    public ConsultaPessoa limite(long limite) {
+        super.limite(limite);
+        return this;
+    }
+
+    @Override
+    public ConsultaPessoa depoisDoId(long id) {
+        super.depoisDoId(id);
+        return this;
+    }
+
+    @Override
+    public ConsultaPessoa depoisDe(Pessoa ultimaLinha) {
+        super.depoisDe(ultimaLinha);
+        return this;
+    }
+
+    private static double salario(Pessoa pessoa) {
+        return pessoa instanceof Desenvolvedor ? ((Desenvolvedor) pessoa).getSalario() : 0.0;
+    }
+}
@@ -0,0 +1,57 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+/**
+ * 👨‍💻 DESENVOLVEDOR: Especialização de legacy.fundamentals.ObjectOrientedProgramming.Pessoa
+ * 
+ * PHP: class legacy.fundamentals.ObjectOrientedProgramming.Desenvolvedor extends legacy.fundamentals.ObjectOrientedProgramming.Pessoa { ... }
+ * Java: public class legacy.fundamentals.ObjectOrientedProgramming.Desenvolvedor extends legacy.fundamentals.ObjectOrientedProgramming.Pessoa { ... }
+ */
+class Desenvolvedor extends Pessoa {
+    private String linguagemPrincipal;
+    private int anosExperiencia;
+    private double salario;
+    
+    public Desenvolvedor(String nome, int idade, String email, String linguagem, int experiencia, double salario) {
+        super(nome, idade, email); // Chama constructor da classe pai
+        this.linguagemPrincipal = linguagem;
+        this.anosExperiencia = experiencia;
+        this.salario = salario;
+    }
+    
+    @Override
+    public String getTipo() {
+        return "legacy.fundamentals.ObjectOrientedProgramming.Desenvolvedor " + getLinguagemPrincipal();
+    }
+    
+    // Método específico desta classe
+    public String getLevel() {
+        return levelDe(getAnosExperiencia());
+    }
+    
+    // Regra de level isolada (reaproveitada pelas agregações colunares)
+    public static String levelDe(int anosExperiencia) {
+        if (anosExperiencia < 2) return "Junior";
+        if (anosExperiencia < 5) return "Pleno";
+        return "Senior";
+    }
+    
+    public String getInfoCompleta() {
+        return String.format("%s | Level: %s | Salário: R$ %.2f", 
+                           getInfo(), getLevel(), getSalario());
+    }
+    
+    // Override da validação (adiciona regras específicas)
+    @Override
+    public boolean isValid() {
+        String linguagem = getLinguagemPrincipal();
+        return super.isValid() && 
+               linguagem != null && !linguagem.trim().isEmpty() &&
+               getAnosExperiencia() >= 0 && getSalario() > 0;
+    }
+    
+    // Getters específicos
+    public String getLinguagemPrincipal() { return linguagemPrincipal; }
+    public void setLinguagemPrincipal(String linguagem) { this.linguagemPrincipal = linguagem; notificarAlteracao(); }
+    public int getAnosExperiencia() { return anosExperiencia; }
+    public double getSalario() { return salario; }
+}
@@ -0,0 +1,29 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+/**
+ * 👩‍💼 GERENTE: Outra especialização de legacy.fundamentals.ObjectOrientedProgramming.Pessoa
+ */
+class Gerente extends Pessoa {
+    private String departamento;
+    private int tamanhoEquipe;
+    
+    public Gerente(String nome, int idade, String email, String departamento, int tamanhoEquipe) {
+        super(nome, idade, email);
+        this.departamento = departamento;
+        this.tamanhoEquipe = tamanhoEquipe;
+    }
+    
+    @Override
+    public String getTipo() {
+        return "legacy.fundamentals.ObjectOrientedProgramming.Gerente de " + getDepartamento();
+    }
+    
+    public String getInfoCompleta() {
+        return String.format("%s | Equipe: %d pessoas", getInfo(), getTamanhoEquipe());
+    }
+    
+    // Getters específicos
+    public String getDepartamento() { return departamento; }
+    public void setDepartamento(String departamento) { this.departamento = departamento; notificarAlteracao(); }
+    public int getTamanhoEquipe() { return tamanhoEquipe; }
+}
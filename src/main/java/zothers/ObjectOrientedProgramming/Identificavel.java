@@ -0,0 +1,9 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+/**
+ * 🔑 Interface para entidades com chave primária (como $model->id no Eloquent)
+ */
+interface Identificavel {
+    Long getId();
+    void setId(Long id);
+}
@@ -0,0 +1,120 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 📇 ÍNDICE SECUNDÁRIO: Como um INDEX do MySQL (ou uma coluna indexada no Laravel)
+ *
+ * PHP: $schema->index('linguagem_principal');
+ * Java: new IndiceSecundario<>("linguagem", p -> ...)
+ *
+ * Cada valor da chave (já normalizado em minúsculas) aponta para um
+ * LongHashMap id → entidade. A busca custa o tamanho do resultado,
+ * não o tamanho da tabela. O índice também guarda a chave atual de cada id,
+ * então reindexar depois de um setter não precisa saber o valor antigo.
+ */
+class IndiceSecundario<T extends Identificavel> {
+    private final String nome;
+    private final Function<? super T, String> extrator;
+
+    // Chave normalizada → grupo. Cada grupo guarda a instância canônica
+    // (internada) da chave: chaveAtual reaproveita a mesma String.
+    private final Map<String, Grupo<T>> grupos = new HashMap<>();
+    private final LongHashMap<String> chaveAtual = new LongHashMap<>();
+
+    private static final class Grupo<T> {
+        final String chave;
+        final LongHashMap<T> linhas = new LongHashMap<>();
+
+        Grupo(String chave) { this.chave = chave; }
+    }
+
+    /**
+     * @param extrator retorna o valor indexado, ou null quando a entidade
+     *                 não participa do índice (ex: Gerente no índice de linguagem)
+     */
+    public IndiceSecundario(String nome, Function<? super T, String> extrator) {
+        this.nome = nome;
+        this.extrator = extrator;
+    }
+
+    public String getNome() { return nome; }
+
+    /**
+     * Insere ou atualiza a entidade (chamado no save e após setters)
+     */
+    public void indexar(T entidade) {
+        long id = entidade.getId();
+        String nova = normalizar(extrator.apply(entidade));
+        String antiga = chaveAtual.get(id);
+
+        if (antiga != null && !antiga.equals(nova)) {
+            removerDoGrupo(antiga, id);
+        }
+        if (nova == null) {
+            chaveAtual.remove(id);
+            return;
+        }
+
+        Grupo<T> grupo = grupos.computeIfAbsent(nova, Grupo::new);
+        grupo.linhas.put(id, entidade);
+        chaveAtual.put(id, grupo.chave);
+    }
+
+    public void remover(long id) {
+        String antiga = chaveAtual.remove(id);
+        if (antiga != null) {
+            removerDoGrupo(antiga, id);
+        }
+    }
+
+    /**
+     * Busca por igualdade, sem diferenciar maiúsculas (como WHERE col = ? com collation _ci)
+     */
+    public List<T> buscar(String valor) {
+        String chave = normalizar(valor);
+        Grupo<T> grupo = chave == null ? null : grupos.get(chave);
+        return grupo == null ? Collections.emptyList() : grupo.linhas.values();
+    }
+
+    public int contar(String valor) {
+        String chave = normalizar(valor);
+        Grupo<T> grupo = chave == null ? null : grupos.get(chave);
+        return grupo == null ? 0 : grupo.linhas.size();
+    }
+
+    /**
+     * Mesma comparação do índice (sem espaços nas pontas, sem diferenciar
+     * maiúsculas), para o caminho sem índice devolver o mesmo resultado
+     */
+    static boolean mesmaChave(String valor, String campo) {
+        String chave = normalizar(valor);
+        return chave != null && chave.equals(normalizar(campo));
+    }
+
+    /**
+     * Chave como o índice a guarda: " Java " e "java" são o mesmo grupo
+     */
+    static String normalizar(String valor) {
+        return valor == null ? null : valor.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private void removerDoGrupo(String chave, long id) {
+        Grupo<T> grupo = grupos.get(chave);
+        if (grupo != null) {
+            grupo.linhas.remove(id);
+            if (grupo.linhas.isEmpty()) {
+                grupos.remove(chave);
+            }
+        }
+    }
+}
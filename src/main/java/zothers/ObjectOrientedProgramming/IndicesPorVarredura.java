@@ -0,0 +1,43 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 🔍 ÍNDICES POR VARREDURA: createIndex/findByIndex padrão do Repository
+ *
+ * PHP: WHERE coluna = ? numa coluna sem INDEX (o banco faz full scan)
+ * Java: guarda só a função de chave; findByIndex percorre stream()
+ *
+ * Interface não tem campos, então as funções ficam aqui, por repository
+ * (WeakHashMap: somem junto com ele). A comparação é a do IndiceSecundario,
+ * então o resultado é o mesmo com ou sem índice de verdade.
+ */
+final class IndicesPorVarredura {
+    private static final Map<Repository<?>, Map<String, Function<?, String>>> CHAVES =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private IndicesPorVarredura() {}
+
+    static <T extends Identificavel> void registrar(Repository<T> repositorio, String nome,
+                                                    Function<? super T, String> chave) {
+        CHAVES.computeIfAbsent(repositorio, r -> new ConcurrentHashMap<>()).put(nome, chave);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Identificavel> List<T> buscar(Repository<T> repositorio, String nome, String valor) {
+        Map<String, Function<?, String>> chaves = CHAVES.get(repositorio);
+        Function<? super T, String> chave = chaves == null ? null : (Function<? super T, String>) chaves.get(nome);
+        if (chave == null) {
+            throw new IllegalArgumentException("Índice inexistente: " + nome);
+        }
+        return repositorio.stream()
+            .filter(entidade -> IndiceSecundario.mesmaChave(valor, chave.apply(entidade)))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,281 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * 📜 LOG SEGMENTADO: Armazenamento append-only em arquivos mapeados em memória
+ *
+ * PHP: file_put_contents($arquivo, $linha, FILE_APPEND);
+ * Java: FileChannel.map() → escrever no arquivo é escrever em um ByteBuffer
+ *
+ * Os dados ficam em segmentos de tamanho fixo (segmento-000001.log, ...).
+ * Nada é sobrescrito: atualizar é anexar uma nova versão, remover é anexar
+ * uma "lápide". A posição de um registro é (número do segmento << 32 | offset).
+ *
+ * Registro: [tamanhoTotal:4] [operacao:1] [id:8] [payload] [crc32c:4]
+ * O tamanho é escrito por último: um registro pela metade tem tamanho 0
+ * (ou CRC inválido) e a recuperação para exatamente nele.
+ *
+ * Os buffers devolvidos por ler() valem até o próximo compactar() ou close():
+ * os segmentos antigos são desmapeados antes de apagar os arquivos (no
+ * Windows, um arquivo ainda mapeado não pode ser apagado).
+ */
+class LogSegmentado implements AutoCloseable {
+    static final byte GRAVAR = 1;
+    static final byte REMOVER = 2;
+
+    private static final int CABECALHO = 4 + 1 + 8;
+    private static final int RODAPE = 4;
+    private static final String PREFIXO = "segmento-";
+    private static final String SUFIXO = ".log";
+    private static final MethodHandle DESMAPEAR = localizarDesmapeador();
+
+    private final Path diretorio;
+    private final int tamanhoSegmento;
+    private final TreeMap<Integer, MappedByteBuffer> segmentos = new TreeMap<>();
+    private final CRC32C crc = new CRC32C();
+
+    private int numeroAtivo;
+    private MappedByteBuffer ativo;
+    private int posicaoEscrita;
+
+    /**
+     * Recebe cada registro válido durante a recuperação, na ordem em que foi escrito
+     */
+    interface Leitor {
+        void registro(byte operacao, long id, long posicao);
+    }
+
+    private LogSegmentado(Path diretorio, int tamanhoSegmento) {
+        this.diretorio = diretorio;
+        this.tamanhoSegmento = tamanhoSegmento;
+    }
+
+    /**
+     * Abre (ou cria) o log e reproduz todos os registros existentes.
+     * Só lê cabeçalhos e confere CRCs: o payload não é decodificado.
+     */
+    public static LogSegmentado abrir(Path diretorio, int tamanhoSegmento, Leitor leitor) throws IOException {
+        if (tamanhoSegmento < 1024) {
+            throw new IllegalArgumentException("Segmento muito pequeno: " + tamanhoSegmento);
+        }
+        Files.createDirectories(diretorio);
+        LogSegmentado log = new LogSegmentado(diretorio, tamanhoSegmento);
+
+        List<Integer> numeros = new ArrayList<>();
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, PREFIXO + "*" + SUFIXO)) {
+            for (Path arquivo : arquivos) {
+                String nome = arquivo.getFileName().toString();
+                numeros.add(Integer.parseInt(nome.substring(PREFIXO.length(), nome.length() - SUFIXO.length())));
+            }
+        }
+        numeros.sort(null);
+
+        for (int numero : numeros) {
+            MappedByteBuffer buffer = log.mapear(numero);
+            log.segmentos.put(numero, buffer);
+            int fim = log.reproduzir(numero, buffer, leitor);
+            log.numeroAtivo = numero;
+            log.ativo = buffer;
+            log.posicaoEscrita = fim;
+        }
+        if (log.ativo == null) {
+            log.rolar();
+        }
+        return log;
+    }
+
+    /**
+     * Anexa um registro e retorna sua posição
+     */
+    public long anexar(byte operacao, long id, byte[] payload) {
+        int total = CABECALHO + payload.length + RODAPE;
+        if (total > tamanhoSegmento) {
+            throw new IllegalArgumentException("Registro maior que o segmento: " + total + " bytes");
+        }
+        if (posicaoEscrita + total > ativo.capacity()) {
+            rolar();
+        }
+
+        int inicio = posicaoEscrita;
+        ativo.put(inicio + 4, operacao);
+        ativo.putLong(inicio + 5, id);
+        ativo.put(inicio + CABECALHO, payload);
+        ativo.putInt(inicio + CABECALHO + payload.length, calcularCrc(ativo, inicio, total));
+        ativo.putInt(inicio, total); // Por último: marca o registro como completo
+
+        posicaoEscrita += total;
+        return posicao(numeroAtivo, inicio);
+    }
+
+    /**
+     * Payload do registro na posição (buffer somente leitura, sem cópia)
+     */
+    public ByteBuffer ler(long posicao) {
+        MappedByteBuffer segmento = segmentos.get((int) (posicao >>> 32));
+        if (segmento == null) {
+            throw new IllegalStateException("Segmento inexistente para a posição " + posicao);
+        }
+        int inicio = (int) posicao;
+        int total = segmento.getInt(inicio);
+        return segmento.slice(inicio + CABECALHO, total - CABECALHO - RODAPE).asReadOnlyBuffer();
+    }
+
+    /**
+     * 🧹 COMPACTAÇÃO: Copia só os registros vivos para segmentos novos
+     *
+     * Como um OPTIMIZE TABLE: versões antigas e lápides somem do disco.
+     * O índice (id → posição) é atualizado no lugar. Os segmentos antigos são
+     * apagados do mais velho para o mais novo, então uma queda no meio do
+     * processo nunca "ressuscita" um registro removido.
+     */
+    public void compactar(LongHashMap<Long> indice) throws IOException {
+        List<Integer> antigos = new ArrayList<>(segmentos.keySet());
+        rolar();
+
+        indice.forEachEntrada((id, posicao) -> {
+            ByteBuffer payload = ler(posicao);
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            indice.put(id, anexar(GRAVAR, id, bytes));
+        });
+        ativo.force();
+
+        for (int numero : antigos) {
+            desmapear(segmentos.remove(numero));
+            Files.deleteIfExists(arquivo(numero));
+        }
+    }
+
+    /**
+     * Força as páginas do segmento ativo para o disco (fsync)
+     */
+    public void sincronizar() {
+        ativo.force();
+    }
+
+    public int quantidadeSegmentos() {
+        return segmentos.size();
+    }
+
+    @Override
+    public void close() {
+        sincronizar();
+        for (MappedByteBuffer segmento : segmentos.values()) {
+            desmapear(segmento);
+        }
+        segmentos.clear();
+        ativo = null;
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private static long posicao(int segmento, int offset) {
+        return ((long) segmento << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private Path arquivo(int numero) {
+        return diretorio.resolve(String.format("%s%06d%s", PREFIXO, numero, SUFIXO));
+    }
+
+    private MappedByteBuffer mapear(int numero) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo(numero),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long tamanho = Math.max(canal.size(), tamanhoSegmento);
+            return canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho); // O mapeamento sobrevive ao close
+        }
+    }
+
+    /**
+     * Libera o mapeamento já (sem esperar o GC). Sem Unsafe disponível, só
+     * solta a referência e o GC desmapeia depois.
+     */
+    private static void desmapear(MappedByteBuffer buffer) {
+        if (buffer == null || DESMAPEAR == null) {
+            return;
+        }
+        try {
+            DESMAPEAR.invokeExact((ByteBuffer) buffer);
+        } catch (Throwable e) {
+            // Mapeamento continua até o GC; apagar o arquivo pode falhar no Windows
+        }
+    }
+
+    // Unsafe.invokeCleaner (jdk.unsupported): a única forma de desmapear no JDK 17
+    private static MethodHandle localizarDesmapeador() {
+        try {
+            Class<?> classe = Class.forName("sun.misc.Unsafe");
+            Field instancia = classe.getDeclaredField("theUnsafe");
+            instancia.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(classe, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(instancia.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void rolar() {
+        if (ativo != null) {
+            ativo.force(); // Segmento selado: nunca mais muda
+        }
+        try {
+            int proximo = segmentos.isEmpty() ? 1 : segmentos.lastKey() + 1;
+            MappedByteBuffer novo = mapear(proximo);
+            segmentos.put(proximo, novo);
+            numeroAtivo = proximo;
+            ativo = novo;
+            posicaoEscrita = 0;
+        } catch (IOException e) {
+            throw new java.io.UncheckedIOException("Não foi possível criar segmento novo", e);
+        }
+    }
+
+    /**
+     * Lê os registros de um segmento e retorna o offset logo após o último válido
+     */
+    private int reproduzir(int numero, MappedByteBuffer buffer, Leitor leitor) {
+        int posicao = 0;
+        int limite = buffer.capacity();
+        while (posicao + CABECALHO + RODAPE <= limite) {
+            int total = buffer.getInt(posicao);
+            if (total < CABECALHO + RODAPE || posicao + total > limite) {
+                break; // Fim dos dados (ou tamanho corrompido)
+            }
+            int crcGravado = buffer.getInt(posicao + total - RODAPE);
+            if (crcGravado != calcularCrc(buffer, posicao, total)) {
+                break; // Escrita interrompida no meio
+            }
+            leitor.registro(buffer.get(posicao + 4), buffer.getLong(posicao + 5), posicao(numero, posicao));
+            posicao += total;
+        }
+        // Zera o que sobrou de uma escrita interrompida para não confundir a próxima recuperação
+        if (posicao + 4 <= limite) {
+            buffer.putInt(posicao, 0);
+        }
+        return posicao;
+    }
+
+    private int calcularCrc(ByteBuffer buffer, int inicio, int total) {
+        crc.reset();
+        crc.update(buffer.slice(inicio + 4, total - 4 - RODAPE));
+        return (int) crc.getValue();
+    }
+}
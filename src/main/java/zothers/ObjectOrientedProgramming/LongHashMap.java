@@ -0,0 +1,307 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 🗂️ LONG HASH MAP: Índice de chave primária (long → valor)
+ *
+ * PHP: $linhas[$id] = $pessoa; // array com chave inteira, mantém ordem de inserção
+ * Java: HashMap<Long, Pessoa> faz boxing de cada id e cria um nó por entrada
+ *
+ * Mesma ideia do array do PHP 7+: as entradas ficam em arrays densos
+ * (long[] de chaves, Object[] de valores) na ordem de inserção, e a tabela
+ * de hash (endereçamento aberto, sondagem linear) guarda só a posição densa.
+ * get/put/remove custam O(1) e não existe boxing da chave.
+ */
+class LongHashMap<V> {
+    private static final int VAZIO = -1;
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    // Tabela de hash: posição da entrada nos arrays densos (ou VAZIO)
+    private int[] slots;
+    private int mascara;
+
+    // Arrays densos (ordem de inserção). Valor null = entrada removida.
+    private long[] chaves;
+    private Object[] valores;
+    private int usados;
+    private int tamanho;
+    // true enquanto cada chave nova for maior que a anterior (ids de auto increment)
+    private boolean ordenadoPorChave = true;
+
+    public LongHashMap() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    public LongHashMap(int capacidadeEsperada) {
+        int capacidade = Math.max(CAPACIDADE_INICIAL, Integer.highestOneBit(Math.max(1, capacidadeEsperada - 1)) << 1);
+        alocar(capacidade);
+    }
+
+    public int size() { return tamanho; }
+    public boolean isEmpty() { return tamanho == 0; }
+
+    public boolean containsKey(long chave) {
+        return slots[procurar(chave)] != VAZIO;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long chave) {
+        int posicao = slots[procurar(chave)];
+        return posicao == VAZIO ? null : (V) valores[posicao];
+    }
+
+    /**
+     * Leitura tolerante a uma escrita concorrente (para leitura otimista com
+     * StampedLock): lê cada array uma única vez e limita a sondagem, então
+     * nunca trava nem estoura índice. O resultado só vale se o chamador
+     * validar o carimbo do lock depois.
+     */
+    @SuppressWarnings("unchecked")
+    V getOtimista(long chave) {
+        int[] s = slots;
+        long[] k = chaves;
+        Object[] v = valores;
+        int m = s.length - 1;
+        long h = chave * 0x9E3779B97F4A7C15L;
+        int slot = (int) (h ^ (h >>> 32)) & m;
+        for (int tentativas = 0; tentativas <= m; tentativas++) {
+            int posicao = s[slot];
+            if (posicao == VAZIO || posicao >= k.length || posicao >= v.length) {
+                return null;
+            }
+            if (k[posicao] == chave) {
+                return (V) v[posicao];
+            }
+            slot = (slot + 1) & m;
+        }
+        return null;
+    }
+
+    /**
+     * Insere ou substitui (como PHP $map[$id] = $valor).
+     * Substituir mantém a posição original na ordem de iteração.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long chave, V valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("Valor nulo não é permitido (use remove)");
+        }
+        int slot = procurar(chave);
+        int posicao = slots[slot];
+        if (posicao != VAZIO) {
+            V anterior = (V) valores[posicao];
+            valores[posicao] = valor;
+            return anterior;
+        }
+        if (usados == chaves.length) {
+            reorganizar();
+            slot = procurar(chave);
+        }
+        if (usados > 0 && chave <= chaves[usados - 1]) {
+            ordenadoPorChave = false;
+        }
+        chaves[usados] = chave;
+        valores[usados] = valor;
+        slots[slot] = usados++;
+        tamanho++;
+        return null;
+    }
+
+    /**
+     * Remove em O(1) (como PHP unset($map[$id])).
+     * Usa "backward shift" para não deixar lápides na tabela de hash.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long chave) {
+        int slot = procurar(chave);
+        int posicao = slots[slot];
+        if (posicao == VAZIO) {
+            return null;
+        }
+        V anterior = (V) valores[posicao];
+        valores[posicao] = null;
+        tamanho--;
+
+        // Backward shift: puxa para trás as entradas da mesma sequência de sondagem
+        int livre = slot;
+        int atual = slot;
+        while (true) {
+            atual = (atual + 1) & mascara;
+            int ocupante = slots[atual];
+            if (ocupante == VAZIO) {
+                break;
+            }
+            int ideal = indice(chaves[ocupante]);
+            boolean podeMover = livre <= atual
+                ? (ideal <= livre || ideal > atual)
+                : (ideal <= livre && ideal > atual);
+            if (podeMover) {
+                slots[livre] = ocupante;
+                livre = atual;
+            }
+        }
+        slots[livre] = VAZIO;
+        return anterior;
+    }
+
+    /**
+     * Percorre os valores na ordem de inserção (como PHP foreach)
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super V> acao) {
+        for (int i = 0; i < usados; i++) {
+            Object valor = valores[i];
+            if (valor != null) {
+                acao.accept((V) valor);
+            }
+        }
+    }
+
+    /**
+     * Percorre chave e valor na ordem de inserção (como PHP foreach ($map as $id => $v))
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachEntrada(Visitante<? super V> visitante) {
+        for (int i = 0; i < usados; i++) {
+            Object valor = valores[i];
+            if (valor != null) {
+                visitante.visitar(chaves[i], (V) valor);
+            }
+        }
+    }
+
+    /**
+     * Callback de chave primitiva (evita o boxing de um BiConsumer<Long, V>)
+     */
+    interface Visitante<V> {
+        void visitar(long chave, V valor);
+    }
+
+    /**
+     * A ordem de inserção também é ordem crescente de chave?
+     * (Vale enquanto as chaves forem geradas por uma sequência)
+     */
+    public boolean isOrdenadoPorChave() {
+        return ordenadoPorChave;
+    }
+
+    /**
+     * Stream preguiçoso dos valores, na ordem de inserção (sem cópia).
+     * Como um cursor: não altere o mapa enquanto o stream estiver em uso.
+     */
+    public Stream<V> stream() {
+        return streamDaPosicao(0);
+    }
+
+    /**
+     * Valores com chave maior que a informada, em ordem crescente de chave.
+     * Faz "seek" por busca binária nos arrays densos (como WHERE id > ? com
+     * índice): só funciona quando isOrdenadoPorChave().
+     */
+    public Stream<V> streamDepoisDe(long chave) {
+        if (!ordenadoPorChave) {
+            throw new IllegalStateException("Chaves fora de ordem: seek por chave indisponível");
+        }
+        // Entradas removidas mantêm a chave no array denso, então ele segue ordenado
+        int inicio = java.util.Arrays.binarySearch(chaves, 0, usados, chave);
+        inicio = inicio >= 0 ? inicio + 1 : -inicio - 1;
+        return streamDaPosicao(inicio);
+    }
+
+    /**
+     * Chaves vivas na ordem de inserção (sem boxing)
+     */
+    public LongStream chaves() {
+        long[] k = chaves;
+        Object[] v = valores;
+        return IntStream.range(0, usados).filter(i -> v[i] != null).mapToLong(i -> k[i]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stream<V> streamDaPosicao(int inicio) {
+        Object[] v = valores;
+        return IntStream.range(inicio, usados).mapToObj(i -> (V) v[i]).filter(java.util.Objects::nonNull);
+    }
+
+    /**
+     * Acesso por posição densa, para dividir o trabalho em faixas (fork/join).
+     * Posições em [0, posicoesUsadas()); removidos retornam null.
+     */
+    int posicoesUsadas() {
+        return usados;
+    }
+
+    @SuppressWarnings("unchecked")
+    V valorNaPosicao(int posicao) {
+        return (V) valores[posicao];
+    }
+
+    /**
+     * Cópia dos valores na ordem de inserção (como PHP array_values)
+     */
+    public List<V> values() {
+        List<V> copia = new ArrayList<>(tamanho);
+        forEach(copia::add);
+        return copia;
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private int indice(long chave) {
+        long h = chave * 0x9E3779B97F4A7C15L; // Fibonacci hashing
+        return (int) (h ^ (h >>> 32)) & mascara;
+    }
+
+    /**
+     * Retorna o slot onde a chave está, ou o slot VAZIO onde ela entraria
+     */
+    private int procurar(long chave) {
+        int slot = indice(chave);
+        while (true) {
+            int posicao = slots[slot];
+            if (posicao == VAZIO || chaves[posicao] == chave) {
+                return slot;
+            }
+            slot = (slot + 1) & mascara;
+        }
+    }
+
+    private void alocar(int capacidadeDensa) {
+        chaves = new long[capacidadeDensa];
+        valores = new Object[capacidadeDensa];
+        slots = new int[capacidadeDensa * 2]; // fator de carga máximo 0.5
+        mascara = slots.length - 1;
+        java.util.Arrays.fill(slots, VAZIO);
+        usados = 0;
+        tamanho = 0;
+    }
+
+    /**
+     * Arrays densos cheios: compacta (se há muitas remoções) ou dobra a capacidade
+     */
+    private void reorganizar() {
+        long[] chavesAntigas = chaves;
+        Object[] valoresAntigos = valores;
+        int usadosAntigos = usados;
+        int capacidade = tamanho > chaves.length / 2 ? chaves.length * 2 : chaves.length;
+
+        alocar(capacidade);
+        for (int i = 0; i < usadosAntigos; i++) {
+            if (valoresAntigos[i] != null) {
+                long chave = chavesAntigas[i];
+                chaves[usados] = chave;
+                valores[usados] = valoresAntigos[i];
+                slots[procurar(chave)] = usados++;
+                tamanho++;
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+/**
+ * 👤 PESSOA: Classe base abstrata
+ * 
+ * PHP: abstract class legacy.fundamentals.ObjectOrientedProgramming.Pessoa { ... }
+ * Java: public abstract class legacy.fundamentals.ObjectOrientedProgramming.Pessoa { ... }
+ */
+abstract class Pessoa implements Validatable, Identificavel {
+    protected Long id; // Atribuído pelo repository no save (como auto increment)
+    protected String nome;
+    protected int idade;
+    protected String email;
+    
+    // Quem deve ser avisado quando um setter muda a entidade (ex: índices do repository)
+    private java.util.function.Consumer<Pessoa> observador;
+    
+    // Constructor (como PHP __construct)
+    public Pessoa(String nome, int idade, String email) {
+        this.nome = nome;
+        this.idade = idade;
+        this.email = email;
+    }
+    
+    // Método abstrato (deve ser implementado pelas filhas)
+    public abstract String getTipo();
+    
+    // Método concreto (pode ser usado por todas as filhas)
+    public String getInfo() {
+        return String.format("%s: %s (%d anos) - %s", getTipo(), getNome(), getIdade(), getEmail());
+    }
+    
+    // Implementação da validação
+    @Override
+    public boolean isValid() {
+        // Via getters: subclasses (ex: visões colunares) podem guardar os dados em outro lugar
+        String nome = getNome();
+        String email = getEmail();
+        return nome != null && !nome.trim().isEmpty() && 
+               getIdade() > 0 && getIdade() < 120 &&
+               email != null && email.contains("@");
+    }
+    
+    @Override
+    public String getValidationMessage() {
+        if (!isValid()) {
+            return "❌ Dados inválidos: nome, idade (1-119) e email são obrigatórios";
+        }
+        return "✅ Dados válidos";
+    }
+    
+    // Getters e Setters (como PHP __get e __set, mas explícitos)
+    @Override
+    public Long getId() { return id; }
+    @Override
+    public void setId(Long id) { this.id = id; }
+    
+    public String getNome() { return nome; }
+    public void setNome(String nome) { this.nome = nome; notificarAlteracao(); }
+    
+    public int getIdade() { return idade; }
+    public void setIdade(int idade) { this.idade = idade; notificarAlteracao(); }
+    
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; notificarAlteracao(); }
+    
+    // Como os Observers do Eloquent (updated): o repository se registra no save
+    void observar(java.util.function.Consumer<Pessoa> observador) { this.observador = observador; }
+    
+    protected void notificarAlteracao() {
+        if (observador != null) {
+            observador.accept(this);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+/**
+ * 🗄️ REPOSITORY: Implementação concreta
+ * 
+ * Como um Eloquent Model ou legacy.fundamentals.ObjectOrientedProgramming.Repository Pattern do Laravel
+ */
+class PessoaRepository implements Repository<Pessoa> {
+    // Índice de chave primária: id → Pessoa em O(1), sem depender da ordem de inserção
+    private final LongHashMap<Pessoa> pessoas = new LongHashMap<>();
+    private long proximoId = 1L;
+    
+    // Índices secundários por nome (como os INDEX de uma tabela)
+    private final java.util.Map<String, IndiceSecundario<Pessoa>> indices = new java.util.LinkedHashMap<>();
+    private RegistroOperacoes registro = RegistroOperacoes.CONSOLE;
+    
+    public PessoaRepository() {
+        createIndex("linguagem", p -> p instanceof Desenvolvedor ? ((Desenvolvedor) p).getLinguagemPrincipal() : null);
+        createIndex("departamento", p -> p instanceof Gerente ? ((Gerente) p).getDepartamento() : null);
+    }
+    
+    @Override
+    public RegistroOperacoes registroOperacoes() { return registro; }
+    public void setRegistroOperacoes(RegistroOperacoes registro) { this.registro = registro; }
+    
+    @Override
+    public void save(Pessoa pessoa) {
+        logOperation("SAVE", pessoa.getNome());
+        if (pessoa.isValid()) {
+            gravar(pessoa);
+            System.out.println("✅ " + pessoa.getNome() + " salvo com sucesso! (ID " + pessoa.getId() + ")");
+        } else {
+            System.out.println("❌ Erro ao salvar: " + pessoa.getValidationMessage());
+        }
+    }
+    
+    /**
+     * Lote: mesma lógica do save, mas sem log/println por registro
+     */
+    @Override
+    public ResultadoLote<Pessoa> saveAll(java.util.Iterator<? extends Pessoa> entidades) {
+        logOperation("SAVE_ALL");
+        ResultadoLote<Pessoa> resultado = ProcessadorLote.executar(entidades, this::gravarLote);
+        System.out.println("✅ " + resultado);
+        return resultado;
+    }
+    
+    private void gravarLote(java.util.List<Pessoa> lote) {
+        for (Pessoa pessoa : lote) {
+            gravar(pessoa);
+        }
+    }
+    
+    // Grava uma entidade já validada (chave primária + índices)
+    private void gravar(Pessoa pessoa) {
+        // Como auto increment: só gera id para registros novos
+        if (pessoa.getId() == null) {
+            pessoa.setId(proximoId++);
+        } else if (pessoa.getId() >= proximoId) {
+            proximoId = pessoa.getId() + 1;
+        }
+        Pessoa anterior = pessoas.put(pessoa.getId(), pessoa);
+        if (anterior != null && anterior != pessoa) {
+            anterior.observar(null);
+        }
+        reindexar(pessoa);
+        pessoa.observar(this::reindexar);
+    }
+    
+    @Override
+    public Pessoa findById(Long id) {
+        logOperation("FIND_BY_ID", id);
+        return id == null ? null : pessoas.get(id);
+    }
+    
+    @Override
+    public void delete(Long id) {
+        logOperation("DELETE", id);
+        Pessoa removida = id == null ? null : pessoas.remove(id);
+        if (removida != null) {
+            removida.observar(null);
+            for (IndiceSecundario<Pessoa> indice : indices.values()) {
+                indice.remover(id);
+            }
+            System.out.println("🗑️ legacy.fundamentals.ObjectOrientedProgramming.Pessoa com ID " + id + " removida");
+        } else {
+            System.out.println("⚠️ Nenhuma legacy.fundamentals.ObjectOrientedProgramming.Pessoa com ID " + id);
+        }
+    }
+    
+    @Override
+    public void createIndex(String nome, java.util.function.Function<? super Pessoa, String> chave) {
+        IndiceSecundario<Pessoa> indice = new IndiceSecundario<>(nome, chave);
+        pessoas.forEach(indice::indexar); // Popula com os registros já existentes
+        indices.put(nome, indice);
+    }
+    
+    @Override
+    public boolean hasIndex(String nome) {
+        return indices.containsKey(nome);
+    }
+    
+    @Override
+    public ConsultaPessoa query() {
+        return new ConsultaPessoa(this);
+    }
+    
+    @Override
+    public java.util.stream.Stream<Pessoa> stream() {
+        return pessoas.stream(); // Sem cópia: lê direto do índice primário
+    }
+    
+    @Override
+    public boolean isOrdenadoPorId() {
+        return pessoas.isOrdenadoPorChave();
+    }
+    
+    @Override
+    public java.util.stream.Stream<Pessoa> streamAfter(long id) {
+        return isOrdenadoPorId() ? pessoas.streamDepoisDe(id) : Repository.super.streamAfter(id);
+    }
+    
+    @Override
+    public java.util.List<Pessoa> findByIndex(String nome, String valor) {
+        logOperation("FIND_BY_INDEX", nome);
+        IndiceSecundario<Pessoa> indice = indices.get(nome);
+        if (indice == null) {
+            throw new IllegalArgumentException("Índice inexistente: " + nome);
+        }
+        return indice.buscar(valor);
+    }
+    
+    // Acesso por posição para processamento paralelo em faixas (ServicoAgregacao)
+    int totalPosicoes() {
+        return pessoas.posicoesUsadas();
+    }
+    
+    Pessoa naPosicao(int posicao) {
+        return pessoas.valorNaPosicao(posicao);
+    }
+    
+    // Chamado no save e pelos setters da entidade (atualização incremental)
+    private void reindexar(Pessoa pessoa) {
+        if (pessoas.get(pessoa.getId()) != pessoa) {
+            return; // Objeto antigo, já substituído por outro com o mesmo id
+        }
+        for (IndiceSecundario<Pessoa> indice : indices.values()) {
+            indice.indexar(pessoa);
+        }
+    }
+    
+    @Override
+    public java.util.List<Pessoa> findAll() {
+        logOperation("FIND_ALL");
+        return pessoas.values();
+    }
+    
+    // Métodos extras (como Query Scopes do Laravel)
+    public java.util.List<Desenvolvedor> findDesenvolvedoresByLinguagem(String linguagem) {
+        logOperation("FIND_DEVS_BY_LANGUAGE", linguagem);
+        // Usa o índice "linguagem": custo proporcional ao resultado, não à tabela
+        java.util.List<Desenvolvedor> resultado = new java.util.ArrayList<>();
+        for (Pessoa p : indices.get("linguagem").buscar(linguagem)) {
+            resultado.add((Desenvolvedor) p);
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,80 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * ⚙️ PROCESSADOR DE LOTE: A parte comum de todo saveAll
+ *
+ * PHP: foreach (array_chunk($linhas, 1000) as $bloco) { validar; insert em lote; }
+ * Java: mesma ideia, mas a validação de cada bloco roda em paralelo
+ *
+ * Lê o Iterator em blocos (memória constante, mesmo com milhões de linhas),
+ * valida cada bloco em paralelo, entrega só os válidos para o repository
+ * gravar de uma vez e anota os rejeitados no ResultadoLote.
+ */
+final class ProcessadorLote {
+    static final int TAMANHO_BLOCO = 8192;
+    private static final int MINIMO_PARALELO = 1024;
+
+    private ProcessadorLote() {}
+
+    public static <T> ResultadoLote<T> executar(Iterator<? extends T> entidades, Consumer<List<T>> gravarBloco) {
+        List<T> bloco = new ArrayList<>(TAMANHO_BLOCO);
+        List<T> validos = new ArrayList<>(TAMANHO_BLOCO);
+        List<T> rejeitados = new ArrayList<>();
+        long[] posicoes = new long[16];
+        int quantidadeRejeitados = 0;
+        long total = 0;
+
+        while (entidades.hasNext()) {
+            bloco.clear();
+            while (bloco.size() < TAMANHO_BLOCO && entidades.hasNext()) {
+                bloco.add(entidades.next());
+            }
+
+            boolean[] ok = validar(bloco);
+            validos.clear();
+            for (int i = 0; i < bloco.size(); i++) {
+                if (ok[i]) {
+                    validos.add(bloco.get(i));
+                } else {
+                    if (quantidadeRejeitados == posicoes.length) {
+                        posicoes = Arrays.copyOf(posicoes, posicoes.length * 2);
+                    }
+                    posicoes[quantidadeRejeitados++] = total + i; // long: o stream pode passar de 2^31 linhas
+                    rejeitados.add(bloco.get(i));
+                }
+            }
+            if (!validos.isEmpty()) {
+                gravarBloco.accept(validos);
+            }
+            total += bloco.size();
+        }
+        return new ResultadoLote<>(total, Arrays.copyOf(posicoes, quantidadeRejeitados), rejeitados);
+    }
+
+    /**
+     * Validação em paralelo: cada thread escreve em posições diferentes do array
+     */
+    private static <T> boolean[] validar(List<T> bloco) {
+        boolean[] ok = new boolean[bloco.size()];
+        IntStream indices = IntStream.range(0, bloco.size());
+        if (bloco.size() >= MINIMO_PARALELO) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> ok[i] = valido(bloco.get(i)));
+        return ok;
+    }
+
+    private static boolean valido(Object entidade) {
+        if (entidade == null) {
+            return false;
+        }
+        return !(entidade instanceof Validatable) || ((Validatable) entidade).isValid();
+    }
+}
@@ -0,0 +1,226 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 🚚 REGISTRO ASSÍNCRONO: Log em arquivo sem travar quem chama
+ *
+ * PHP: Monolog com um handler de fila (o worker grava depois)
+ * Java: ring buffer lock-free + uma thread de fundo que grava em lote
+ *
+ * - registrar() só reserva um slot com CAS e copia referências: não aloca,
+ *   não faz I/O e não pega lock. Se o buffer estiver cheio, o registro
+ *   é descartado e contado (o repository nunca espera pelo log).
+ *   Um contador de "em andamento" garante que close() espera quem já
+ *   passou da checagem, então nada aceito se perde no fechamento.
+ * - A thread escritora esvazia o buffer, formata as linhas e grava
+ *   com um único FileChannel.write por lote.
+ * - Nível mínimo e amostragem (1 a cada N) cortam volume na origem.
+ */
+class RegistroAssincrono implements RegistroOperacoes, AutoCloseable {
+    private static final int TAMANHO_LOTE = 4096;
+    private static final long ESPERA_OCIOSA_NANOS = 1_000_000L; // 1ms
+
+    private final Nivel nivelMinimo;
+    private final int amostragem;
+    private final FileChannel canal;
+
+    // Ring buffer (fila MPSC limitada): sequencia[i] diz se o slot está livre ou pronto
+    private final int mascara;
+    private final AtomicLongArray sequencias;
+    private final Nivel[] niveis;
+    private final String[] operacoes;
+    private final Object[] detalhes;
+    private final long[] instantes;
+    private final AtomicLong cauda = new AtomicLong();
+    private long cabeca; // Só a thread escritora mexe
+
+    private final AtomicLong descartados = new AtomicLong();
+    private final AtomicInteger emAndamento = new AtomicInteger(); // registrar() entre a checagem e a publicação
+    private final Thread escritora;
+    private volatile boolean fechado;
+
+    /**
+     * @param capacidade quantidade de registros pendentes (arredondada para potência de 2)
+     * @param amostragem 1 grava tudo; N grava em média 1 a cada N registros
+     */
+    public RegistroAssincrono(Path arquivo, int capacidade, Nivel nivelMinimo, int amostragem) throws IOException {
+        if (amostragem < 1) {
+            throw new IllegalArgumentException("Amostragem deve ser >= 1");
+        }
+        int tamanho = Integer.highestOneBit(Math.max(2, capacidade - 1)) << 1;
+        this.mascara = tamanho - 1;
+        this.sequencias = new AtomicLongArray(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            sequencias.set(i, i);
+        }
+        this.niveis = new Nivel[tamanho];
+        this.operacoes = new String[tamanho];
+        this.detalhes = new Object[tamanho];
+        this.instantes = new long[tamanho];
+        this.nivelMinimo = nivelMinimo;
+        this.amostragem = amostragem;
+        this.canal = FileChannel.open(arquivo,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        this.escritora = new Thread(this::executarEscritora, "registro-operacoes");
+        this.escritora.setDaemon(true);
+        this.escritora.start();
+    }
+
+    @Override
+    public boolean habilitado(Nivel nivel) {
+        return !fechado && nivel.compareTo(nivelMinimo) >= 0;
+    }
+
+    @Override
+    public void registrar(Nivel nivel, String operacao, Object detalhe) {
+        if (!habilitado(nivel)) {
+            return;
+        }
+        if (amostragem > 1 && ThreadLocalRandom.current().nextInt(amostragem) != 0) {
+            return;
+        }
+        // Anuncia antes de olhar "fechado": a escritora só encerra com zero em andamento
+        emAndamento.incrementAndGet();
+        try {
+            if (!fechado) {
+                publicar(nivel, operacao, detalhe);
+            }
+        } finally {
+            emAndamento.decrementAndGet();
+        }
+    }
+
+    private void publicar(Nivel nivel, String operacao, Object detalhe) {
+        long posicao = cauda.get();
+        int slot;
+        while (true) {
+            slot = (int) posicao & mascara;
+            long diferenca = sequencias.get(slot) - posicao;
+            if (diferenca == 0) {
+                if (cauda.compareAndSet(posicao, posicao + 1)) {
+                    break; // Slot reservado
+                }
+                posicao = cauda.get();
+            } else if (diferenca < 0) {
+                descartados.incrementAndGet(); // Buffer cheio: descarta em vez de esperar
+                return;
+            } else {
+                posicao = cauda.get(); // Outra thread pegou este slot
+            }
+        }
+
+        niveis[slot] = nivel;
+        operacoes[slot] = operacao;
+        detalhes[slot] = detalhe;
+        instantes[slot] = System.currentTimeMillis();
+        sequencias.lazySet(slot, posicao + 1); // Publica o slot para a escritora
+    }
+
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    /**
+     * Para a thread escritora depois de gravar tudo o que está pendente,
+     * inclusive registros que estavam sendo publicados durante o close()
+     */
+    @Override
+    public void close() {
+        fechado = true;
+        LockSupport.unpark(escritora);
+        try {
+            escritora.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            canal.force(false);
+            canal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ==========================================
+    // Thread escritora
+    // ==========================================
+
+    private void executarEscritora() {
+        StringBuilder linhas = new StringBuilder(TAMANHO_LOTE * 48);
+        while (true) {
+            // Ordem importa: fechado, depois emAndamento, depois drenar. Quem anunciou
+            // depois de emAndamento == 0 já vê fechado e desiste.
+            boolean encerrando = fechado && emAndamento.get() == 0;
+            int lidos = drenar(linhas);
+            if (lidos > 0) {
+                gravar(linhas);
+            } else if (encerrando) {
+                return; // Fechado e nada mais pendente
+            } else if (fechado) {
+                Thread.onSpinWait(); // Alguém terminando de publicar
+            } else {
+                LockSupport.parkNanos(this, ESPERA_OCIOSA_NANOS);
+            }
+        }
+    }
+
+    private int drenar(StringBuilder linhas) {
+        int lidos = 0;
+        while (lidos < TAMANHO_LOTE) {
+            int slot = (int) cabeca & mascara;
+            if (sequencias.get(slot) != cabeca + 1) {
+                break; // Slot ainda não publicado
+            }
+            linhas.append(instantes[slot]).append(' ')
+                  .append(niveis[slot]).append(' ')
+                  .append(operacoes[slot]);
+            if (detalhes[slot] != null) {
+                linhas.append(" - ").append(texto(detalhes[slot]));
+            }
+            linhas.append('\n');
+
+            operacoes[slot] = null; // Não segura referências além do necessário
+            detalhes[slot] = null;
+            sequencias.lazySet(slot, cabeca + mascara + 1); // Libera o slot para a próxima volta
+            cabeca++;
+            lidos++;
+        }
+        return lidos;
+    }
+
+    /**
+     * toString() de um detalhe com bug não pode matar a escritora (nem levar o lote junto)
+     */
+    private static String texto(Object detalhe) {
+        try {
+            return String.valueOf(detalhe);
+        } catch (RuntimeException e) {
+            return "<toString falhou: " + e.getClass().getName() + ">";
+        }
+    }
+
+    private void gravar(StringBuilder linhas) {
+        ByteBuffer lote = ByteBuffer.wrap(linhas.toString().getBytes(StandardCharsets.UTF_8));
+        linhas.setLength(0);
+        try {
+            while (lote.hasRemaining()) {
+                canal.write(lote);
+            }
+        } catch (IOException e) {
+            descartados.incrementAndGet(); // Log nunca derruba a aplicação
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+/**
+ * 📝 REGISTRO DE OPERAÇÕES: Destino plugável do logOperation
+ *
+ * PHP: Log::channel('stack') / Monolog com vários handlers
+ * Java: uma interface pequena; o repository só conhece o contrato
+ *
+ * Implementações:
+ * - CONSOLE: System.out síncrono (o comportamento original)
+ * - NENHUM: desligado de verdade (habilitado() é sempre false)
+ * - RegistroAssincrono: ring buffer + thread que grava em arquivo
+ *
+ * Regra para não alocar no caminho quente: a operação é sempre uma
+ * constante ("SAVE", "FIND_BY_ID") e o detalhe é uma referência que já
+ * existe (o Long id, o nome); nada de concatenar antes de chamar.
+ */
+interface RegistroOperacoes {
+
+    enum Nivel { DEBUG, INFO, AVISO }
+
+    boolean habilitado(Nivel nivel);
+
+    void registrar(Nivel nivel, String operacao, Object detalhe);
+
+    /**
+     * 🔇 Desligado: custo de uma chamada virtual que retorna false
+     */
+    RegistroOperacoes NENHUM = new RegistroOperacoes() {
+        @Override
+        public boolean habilitado(Nivel nivel) { return false; }
+
+        @Override
+        public void registrar(Nivel nivel, String operacao, Object detalhe) { }
+    };
+
+    /**
+     * 🖥️ Console síncrono (como echo no PHP)
+     */
+    RegistroOperacoes CONSOLE = new RegistroOperacoes() {
+        @Override
+        public boolean habilitado(Nivel nivel) { return nivel != Nivel.DEBUG; }
+
+        @Override
+        public void registrar(Nivel nivel, String operacao, Object detalhe) {
+            System.out.println("🔍 Operação: " + (detalhe == null ? operacao : operacao + " - " + detalhe));
+        }
+    };
+}
@@ -0,0 +1,168 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 💾 REPOSITORY EM ARQUIVO: Os dados sobrevivem ao fim do processo
+ *
+ * PHP: o estado fica no MySQL, o script só lê e escreve
+ * Java: aqui o próprio repository é o "banco": um log append-only
+ *       (LogSegmentado) + um índice em memória id → posição no arquivo
+ *
+ * - save: codifica a Pessoa (CodecPessoa) e anexa ao log
+ * - delete: anexa uma lápide; compactar() remove as versões mortas do disco
+ * - ao reabrir, o índice é reconstruído lendo só os cabeçalhos do log
+ *
+ * findById/findAll devolvem objetos novos a cada chamada (como um SELECT):
+ * alterar o objeto só vale depois de chamar save de novo.
+ * Escritas vão para o page cache do SO (sobrevivem a uma queda do processo);
+ * para sobreviver a uma queda de energia, chame sincronizar().
+ */
+class RepositorioArquivo implements Repository<Pessoa>, AutoCloseable {
+    public static final int TAMANHO_SEGMENTO_PADRAO = 64 * 1024 * 1024;
+    private static final byte[] SEM_PAYLOAD = new byte[0];
+    private static final int MINIMO_PARA_COMPACTAR = 10_000;
+
+    private final LongHashMap<Long> posicoes = new LongHashMap<>();
+    private final LogSegmentado log;
+    private long proximoId = 1L;
+    private long registrosMortos;
+    private RegistroOperacoes registro = RegistroOperacoes.CONSOLE;
+
+    public RepositorioArquivo(Path diretorio) throws IOException {
+        this(diretorio, TAMANHO_SEGMENTO_PADRAO);
+    }
+
+    public RepositorioArquivo(Path diretorio, int tamanhoSegmento) throws IOException {
+        this.log = LogSegmentado.abrir(diretorio, tamanhoSegmento, this::reproduzir);
+    }
+
+    @Override
+    public RegistroOperacoes registroOperacoes() { return registro; }
+    public void setRegistroOperacoes(RegistroOperacoes registro) { this.registro = registro; }
+
+    @Override
+    public void save(Pessoa pessoa) {
+        logOperation("SAVE", pessoa.getNome());
+        if (!pessoa.isValid()) {
+            System.out.println("❌ Erro ao salvar: " + pessoa.getValidationMessage());
+            return;
+        }
+        gravar(pessoa, CodecPessoa.codificar(pessoa));
+    }
+
+    /**
+     * Lote: codifica o bloco em paralelo e anexa tudo em sequência, sem log por registro
+     */
+    @Override
+    public ResultadoLote<Pessoa> saveAll(Iterator<? extends Pessoa> entidades) {
+        logOperation("SAVE_ALL");
+        return ProcessadorLote.executar(entidades, lote -> {
+            byte[][] codificados = new byte[lote.size()][];
+            IntStream.range(0, lote.size()).parallel()
+                .forEach(i -> codificados[i] = CodecPessoa.codificar(lote.get(i)));
+            for (int i = 0; i < codificados.length; i++) {
+                gravar(lote.get(i), codificados[i]);
+            }
+        });
+    }
+
+    @Override
+    public Pessoa findById(Long id) {
+        logOperation("FIND_BY_ID", id);
+        Long posicao = id == null ? null : posicoes.get(id);
+        return posicao == null ? null : CodecPessoa.decodificar(id, log.ler(posicao));
+    }
+
+    @Override
+    public void delete(Long id) {
+        logOperation("DELETE", id);
+        if (id == null || posicoes.remove(id) == null) {
+            return;
+        }
+        log.anexar(LogSegmentado.REMOVER, id, SEM_PAYLOAD);
+        registrosMortos += 2; // A versão removida e a própria lápide
+
+        if (registrosMortos > MINIMO_PARA_COMPACTAR && registrosMortos > posicoes.size()) {
+            compactar();
+        }
+    }
+
+    @Override
+    public List<Pessoa> findAll() {
+        logOperation("FIND_ALL");
+        List<Pessoa> todas = new ArrayList<>(posicoes.size());
+        posicoes.forEachEntrada((id, posicao) -> todas.add(CodecPessoa.decodificar(id, log.ler(posicao))));
+        return todas;
+    }
+
+    @Override
+    public ConsultaPessoa query() {
+        return new ConsultaPessoa(this);
+    }
+
+    /**
+     * Decodifica uma linha por vez, só quando o stream pede
+     */
+    @Override
+    public Stream<Pessoa> stream() {
+        return posicoes.chaves().mapToObj(id -> CodecPessoa.decodificar(id, log.ler(posicoes.get(id))));
+    }
+
+    /**
+     * 🧹 Reescreve só os registros vivos e apaga os segmentos antigos
+     */
+    public void compactar() {
+        logOperation("COMPACT");
+        try {
+            log.compactar(posicoes);
+            registrosMortos = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao compactar o log", e);
+        }
+    }
+
+    public void sincronizar() {
+        log.sincronizar();
+    }
+
+    public int size() { return posicoes.size(); }
+    public long getRegistrosMortos() { return registrosMortos; }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    private void gravar(Pessoa pessoa, byte[] payload) {
+        if (pessoa.getId() == null) {
+            pessoa.setId(proximoId++);
+        } else if (pessoa.getId() >= proximoId) {
+            proximoId = pessoa.getId() + 1;
+        }
+        long posicao = log.anexar(LogSegmentado.GRAVAR, pessoa.getId(), payload);
+        if (posicoes.put(pessoa.getId(), posicao) != null) {
+            registrosMortos++; // A versão anterior virou lixo
+        }
+    }
+
+    // Chamado para cada registro do log durante a abertura (recuperação)
+    private void reproduzir(byte operacao, long id, long posicao) {
+        if (operacao == LogSegmentado.GRAVAR) {
+            if (posicoes.put(id, posicao) != null) {
+                registrosMortos++;
+            }
+        } else {
+            posicoes.remove(id);
+            registrosMortos += 2;
+        }
+        proximoId = Math.max(proximoId, id + 1);
+    }
+}
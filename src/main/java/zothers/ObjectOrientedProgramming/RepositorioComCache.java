@@ -0,0 +1,473 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * ⚡ REPOSITORY COM CACHE: Decorator read-through para findById
+ *
+ * PHP (Laravel): Cache::remember("pessoa.$id", $ttl, fn() => Pessoa::find($id));
+ * Java: new RepositorioComCache<>(repositorioLento, 10_000)
+ *
+ * Implementa a mesma interface e delega tudo para o repository real
+ * (padrão Decorator). Só findById é cacheado; save e delete invalidam a
+ * entrada depois de gravar, então o cache nunca devolve versão antiga.
+ *
+ * O cache é dividido em segmentos pelo hash do id, cada um com seu lock e
+ * sua própria política: leituras de ids em segmentos diferentes não se
+ * bloqueiam. Durante um saveAll nenhuma falha preenche o cache (os acertos
+ * continuam); no fim, todos os segmentos mudam de geração.
+ *
+ * Política de despejo W-TinyLFU (a do Caffeine), em versão compacta:
+ * - Janela LRU pequena (1%): absorve rajadas de ids novos
+ * - Principal SLRU (probatório 20% + protegido 80%): ids que voltam
+ * - Um sketch de frequência decide quem fica quando a principal lota:
+ *   o candidato vindo da janela só entra se for mais popular que a vítima
+ * (cada segmento aplica isso à sua fatia da capacidade)
+ */
+class RepositorioComCache<T extends Identificavel> implements Repository<T> {
+    private static final byte JANELA = 0;
+    private static final byte PROBATORIO = 1;
+    private static final byte PROTEGIDO = 2;
+    private static final int CAPACIDADE_MINIMA_SEGMENTO = 64;
+
+    private final Repository<T> origem;
+    private final int capacidadeMaxima;
+    private final Segmento<T>[] segmentos;
+    private final int mascara;
+    // saveAll em andamento: falhas não gravam no cache (a origem pode estar no meio do lote)
+    private final AtomicInteger lotesEmAndamento = new AtomicInteger();
+
+    public RepositorioComCache(Repository<T> origem, int capacidadeMaxima) {
+        this(origem, capacidadeMaxima, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    @SuppressWarnings("unchecked")
+    public RepositorioComCache(Repository<T> origem, int capacidadeMaxima, int quantidadeSegmentos) {
+        if (capacidadeMaxima < 2) {
+            throw new IllegalArgumentException("Capacidade mínima do cache é 2");
+        }
+        this.origem = origem;
+        this.capacidadeMaxima = capacidadeMaxima;
+        // Potência de 2, sem segmentos pequenos demais para a política fazer sentido
+        int limite = Math.max(1, Math.min(quantidadeSegmentos, capacidadeMaxima / CAPACIDADE_MINIMA_SEGMENTO));
+        int tamanho = Integer.highestOneBit(limite);
+        segmentos = (Segmento<T>[]) new Segmento<?>[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            // O resto da divisão vai para os primeiros segmentos
+            segmentos[i] = new Segmento<>(capacidadeMaxima / tamanho + (i < capacidadeMaxima % tamanho ? 1 : 0));
+        }
+        mascara = tamanho - 1;
+    }
+
+    // ==========================================
+    // Leitura (read-through)
+    // ==========================================
+
+    @Override
+    public T findById(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Segmento<T> segmento = segmento(id);
+        long geracaoInicial;
+        synchronized (segmento) {
+            segmento.sketch.incrementar(id);
+            No<T> no = segmento.entradas.get(id);
+            if (no != null) {
+                segmento.acertos++;
+                segmento.registrarAcesso(no);
+                return no.valor;
+            }
+            segmento.falhas++;
+            geracaoInicial = segmento.geracao;
+        }
+
+        // Falha: busca na origem fora do lock (ela pode ser lenta)
+        T valor = origem.findById(id);
+        if (valor != null) {
+            synchronized (segmento) {
+                if (segmento.geracao == geracaoInicial && lotesEmAndamento.get() == 0
+                        && !segmento.entradas.containsKey(id)) {
+                    segmento.inserir(id, valor);
+                }
+            }
+        }
+        return valor;
+    }
+
+    // ==========================================
+    // Escrita (delegada + invalidação depois de gravar)
+    // ==========================================
+
+    @Override
+    public void save(T entity) {
+        origem.save(entity);
+        if (entity.getId() != null) {
+            invalidar(entity.getId());
+        }
+    }
+
+    /**
+     * Tira do cache cada entidade que já tinha id ao passar por ela e, depois
+     * que a origem gravou tudo, troca a geração de todos os segmentos: uma
+     * falha que leu a versão antiga durante o lote não consegue gravá-la.
+     */
+    @Override
+    public ResultadoLote<T> saveAll(Iterator<? extends T> entidades) {
+        lotesEmAndamento.incrementAndGet();
+        try {
+            return origem.saveAll(new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return entidades.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    T entidade = entidades.next();
+                    if (entidade != null && entidade.getId() != null) {
+                        invalidar(entidade.getId());
+                    }
+                    return entidade;
+                }
+            });
+        } finally {
+            // Geração nova ANTES de liberar o preenchimento
+            for (Segmento<T> segmento : segmentos) {
+                synchronized (segmento) {
+                    segmento.geracao++;
+                }
+            }
+            lotesEmAndamento.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        origem.delete(id);
+        if (id != null) {
+            invalidar(id);
+        }
+    }
+
+    public void invalidar(long id) {
+        Segmento<T> segmento = segmento(id);
+        synchronized (segmento) {
+            segmento.geracao++;
+            No<T> no = segmento.entradas.remove(id);
+            if (no != null) {
+                segmento.filaDe(no).remover(no);
+            }
+        }
+    }
+
+    public void limpar() {
+        for (Segmento<T> segmento : segmentos) {
+            synchronized (segmento) {
+                segmento.limpar();
+            }
+        }
+    }
+
+    // ==========================================
+    // Delegação pura
+    // ==========================================
+
+    @Override
+    public List<T> findAll() { return origem.findAll(); }
+
+    @Override
+    public void createIndex(String nome, Function<? super T, String> chave) { origem.createIndex(nome, chave); }
+
+    @Override
+    public List<T> findByIndex(String nome, String valor) { return origem.findByIndex(nome, valor); }
+
+    @Override
+    public boolean hasIndex(String nome) { return origem.hasIndex(nome); }
+
+    @Override
+    public Stream<T> stream() { return origem.stream(); }
+
+    @Override
+    public boolean isOrdenadoPorId() { return origem.isOrdenadoPorId(); }
+
+    @Override
+    public Stream<T> streamAfter(long id) { return origem.streamAfter(id); }
+
+    @Override
+    public RegistroOperacoes registroOperacoes() { return origem.registroOperacoes(); }
+
+    // ==========================================
+    // Estatísticas (soma dos segmentos)
+    // ==========================================
+
+    public long getAcertos() { return somar(ESTATISTICA_ACERTOS); }
+    public long getFalhas() { return somar(ESTATISTICA_FALHAS); }
+    public long getDespejos() { return somar(ESTATISTICA_DESPEJOS); }
+    public int size() { return (int) somar(ESTATISTICA_TAMANHO); }
+
+    public double getTaxaAcerto() {
+        long acertos = getAcertos();
+        long total = acertos + getFalhas();
+        return total == 0 ? 0.0 : (double) acertos / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Cache: %d/%d entradas em %d segmentos | acertos %d | falhas %d | despejos %d | taxa %.1f%%",
+            size(), capacidadeMaxima, segmentos.length, getAcertos(), getFalhas(), getDespejos(), getTaxaAcerto() * 100);
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private static final int ESTATISTICA_ACERTOS = 0;
+    private static final int ESTATISTICA_FALHAS = 1;
+    private static final int ESTATISTICA_DESPEJOS = 2;
+    private static final int ESTATISTICA_TAMANHO = 3;
+
+    private long somar(int estatistica) {
+        long total = 0;
+        for (Segmento<T> segmento : segmentos) {
+            synchronized (segmento) {
+                total += switch (estatistica) {
+                    case ESTATISTICA_ACERTOS -> segmento.acertos;
+                    case ESTATISTICA_FALHAS -> segmento.falhas;
+                    case ESTATISTICA_DESPEJOS -> segmento.despejos;
+                    default -> segmento.entradas.size();
+                };
+            }
+        }
+        return total;
+    }
+
+    private Segmento<T> segmento(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return segmentos[(int) (h >>> 40) & mascara]; // Bits altos: o sketch usa os de baixo
+    }
+
+    /**
+     * 🧩 SEGMENTO: Uma fatia do cache com sua própria política W-TinyLFU
+     *
+     * Todos os métodos são chamados com o monitor do segmento.
+     */
+    private static final class Segmento<T> {
+        final int capacidadeMaxima;
+        final int capacidadeJanela;
+        final int capacidadeProtegido;
+
+        final LongHashMap<No<T>> entradas = new LongHashMap<>();
+        final Fila<T> janela = new Fila<>();
+        final Fila<T> probatorio = new Fila<>();
+        final Fila<T> protegido = new Fila<>();
+        final SketchFrequencia sketch;
+
+        // Incrementado a cada invalidação: uma carga que começou antes não pode gravar no cache
+        long geracao;
+        long acertos;
+        long falhas;
+        long despejos;
+
+        Segmento(int capacidadeMaxima) {
+            this.capacidadeMaxima = capacidadeMaxima;
+            this.capacidadeJanela = Math.max(1, capacidadeMaxima / 100);
+            this.capacidadeProtegido = (int) ((capacidadeMaxima - capacidadeJanela) * 0.8);
+            this.sketch = new SketchFrequencia(capacidadeMaxima);
+        }
+
+        void limpar() {
+            geracao++;
+            while (!janela.vazia()) entradas.remove(janela.removerMaisAntigo().id);
+            while (!probatorio.vazia()) entradas.remove(probatorio.removerMaisAntigo().id);
+            while (!protegido.vazia()) entradas.remove(protegido.removerMaisAntigo().id);
+        }
+
+        void registrarAcesso(No<T> no) {
+            switch (no.regiao) {
+                case JANELA -> janela.moverParaFim(no);
+                case PROTEGIDO -> protegido.moverParaFim(no);
+                default -> {
+                    // Voltou enquanto estava em observação: promove para o protegido
+                    probatorio.remover(no);
+                    no.regiao = PROTEGIDO;
+                    protegido.adicionar(no);
+                    if (protegido.tamanho > capacidadeProtegido) {
+                        No<T> rebaixado = protegido.removerMaisAntigo();
+                        rebaixado.regiao = PROBATORIO;
+                        probatorio.adicionar(rebaixado);
+                    }
+                }
+            }
+        }
+
+        void inserir(long id, T valor) {
+            No<T> novo = new No<>(id, valor);
+            entradas.put(id, novo);
+            janela.adicionar(novo);
+
+            if (janela.tamanho <= capacidadeJanela) {
+                return;
+            }
+            // Janela cheia: o mais antigo dela tenta entrar na área principal
+            No<T> candidato = janela.removerMaisAntigo();
+            candidato.regiao = PROBATORIO;
+            probatorio.adicionar(candidato);
+
+            if (entradas.size() <= capacidadeMaxima) {
+                return;
+            }
+            // Principal cheia: disputa de frequência entre candidato e vítima
+            No<T> vitima = probatorio.primeiro();
+            if (vitima == candidato) {
+                vitima = probatorio.tamanho > 1 ? candidato.proximo : protegido.primeiro();
+            }
+            No<T> despejado = sketch.estimar(candidato.id) > sketch.estimar(vitima.id) ? vitima : candidato;
+            filaDe(despejado).remover(despejado);
+            entradas.remove(despejado.id);
+            despejos++;
+        }
+
+        Fila<T> filaDe(No<T> no) {
+            return switch (no.regiao) {
+                case JANELA -> janela;
+                case PROBATORIO -> probatorio;
+                default -> protegido;
+            };
+        }
+    }
+
+    /**
+     * Nó de lista duplamente ligada (intrusiva: sem objetos extras por operação)
+     */
+    private static final class No<T> {
+        final long id;
+        final T valor;
+        byte regiao = JANELA;
+        No<T> anterior;
+        No<T> proximo;
+
+        No(long id, T valor) {
+            this.id = id;
+            this.valor = valor;
+        }
+    }
+
+    /**
+     * Fila LRU: início = mais antigo, fim = mais recente
+     */
+    private static final class Fila<T> {
+        private final No<T> sentinela = new No<>(0, null);
+        int tamanho;
+
+        Fila() {
+            sentinela.anterior = sentinela;
+            sentinela.proximo = sentinela;
+        }
+
+        boolean vazia() { return tamanho == 0; }
+
+        No<T> primeiro() { return tamanho == 0 ? null : sentinela.proximo; }
+
+        void adicionar(No<T> no) {
+            no.anterior = sentinela.anterior;
+            no.proximo = sentinela;
+            sentinela.anterior.proximo = no;
+            sentinela.anterior = no;
+            tamanho++;
+        }
+
+        void remover(No<T> no) {
+            no.anterior.proximo = no.proximo;
+            no.proximo.anterior = no.anterior;
+            no.anterior = null;
+            no.proximo = null;
+            tamanho--;
+        }
+
+        void moverParaFim(No<T> no) {
+            remover(no);
+            adicionar(no);
+        }
+
+        No<T> removerMaisAntigo() {
+            No<T> no = sentinela.proximo;
+            remover(no);
+            return no;
+        }
+    }
+
+    /**
+     * 📊 SKETCH DE FREQUÊNCIA: Count-Min com contadores de 4 bits
+     *
+     * Estima quantas vezes cada id foi pedido usando memória fixa
+     * (16 contadores por long). Periodicamente divide tudo por 2, para
+     * que popularidade antiga não dure para sempre.
+     */
+    private static final class SketchFrequencia {
+        private static final long[] SEMENTES = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+        };
+        private static final long METADE = 0x7777777777777777L;
+
+        private final long[] tabela;
+        private final int mascara;
+        private final int tamanhoAmostra;
+        private int adicoes;
+
+        SketchFrequencia(int capacidade) {
+            int tamanho = Integer.highestOneBit(Math.max(2, capacidade - 1)) << 1;
+            tabela = new long[tamanho];
+            mascara = tamanho - 1;
+            tamanhoAmostra = 10 * capacidade;
+        }
+
+        void incrementar(long chave) {
+            int inicio = espalhar(chave);
+            boolean incrementou = false;
+            for (int i = 0; i < 4; i++) {
+                int indice = indice(chave, i);
+                int deslocamento = ((inicio + i) & 15) << 2;
+                if (((tabela[indice] >>> deslocamento) & 0xFL) != 0xFL) {
+                    tabela[indice] += 1L << deslocamento;
+                    incrementou = true;
+                }
+            }
+            if (incrementou && ++adicoes >= tamanhoAmostra) {
+                envelhecer();
+            }
+        }
+
+        int estimar(long chave) {
+            int inicio = espalhar(chave);
+            int minimo = 15;
+            for (int i = 0; i < 4; i++) {
+                int deslocamento = ((inicio + i) & 15) << 2;
+                minimo = Math.min(minimo, (int) ((tabela[indice(chave, i)] >>> deslocamento) & 0xFL));
+            }
+            return minimo;
+        }
+
+        private void envelhecer() {
+            for (int i = 0; i < tabela.length; i++) {
+                tabela[i] = (tabela[i] >>> 1) & METADE;
+            }
+            adicoes /= 2;
+        }
+
+        private int espalhar(long chave) {
+            long h = chave * 0x9E3779B97F4A7C15L;
+            return (int) (h >>> 60) & 0xC; // Escolhe um grupo de 4 contadores dentro do long
+        }
+
+        private int indice(long chave, int i) {
+            long h = (chave + SEMENTES[i]) * SEMENTES[i];
+            h += h >>> 32;
+            return (int) h & mascara;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 🧵 REPOSITORY CONCORRENTE: Seguro para várias threads ao mesmo tempo
+ *
+ * PHP: cada request tem sua própria memória, então não existe corrida entre requests
+ * Java: um mesmo objeto é compartilhado por várias threads, então precisamos de locks
+ *
+ * - Ids vêm de um AtomicLong (como AUTO_INCREMENT: nunca duplica)
+ * - Os dados são divididos em faixas (lock striping), cada uma com seu StampedLock:
+ *   escritas em faixas diferentes não se bloqueiam
+ * - findById usa leitura otimista (sem lock na maioria das vezes), então
+ *   a leitura escala com o número de núcleos
+ */
+class RepositorioConcorrente<T extends Identificavel & Validatable> implements Repository<T> {
+    private static final int TENTATIVAS_OTIMISTAS = 3;
+
+    private final AtomicLong sequencia = new AtomicLong();
+    private final Faixa<T>[] faixas;
+    private final int mascara;
+    private volatile RegistroOperacoes registro = RegistroOperacoes.CONSOLE;
+
+    /**
+     * 🔒 FAIXA: Um pedaço da tabela com seu próprio lock
+     */
+    private static final class Faixa<T> {
+        final StampedLock lock = new StampedLock();
+        final LongHashMap<T> linhas = new LongHashMap<>();
+    }
+
+    public RepositorioConcorrente() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    @SuppressWarnings("unchecked")
+    public RepositorioConcorrente(int quantidadeFaixas) {
+        int tamanho = Integer.highestOneBit(Math.max(1, quantidadeFaixas - 1)) << 1;
+        faixas = (Faixa<T>[]) new Faixa<?>[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            faixas[i] = new Faixa<>();
+        }
+        mascara = tamanho - 1;
+    }
+
+    @Override
+    public RegistroOperacoes registroOperacoes() { return registro; }
+    public void setRegistroOperacoes(RegistroOperacoes registro) { this.registro = registro; }
+
+    @Override
+    public void save(T entity) {
+        logOperation("SAVE");
+        if (!entity.isValid()) {
+            System.out.println("❌ Erro ao salvar: " + entity.getValidationMessage());
+            return;
+        }
+        Long id = entity.getId();
+        if (id == null) {
+            entity.setId(sequencia.incrementAndGet());
+        } else {
+            sequencia.accumulateAndGet(id, Math::max); // Id explícito: avança a sequência
+        }
+
+        Faixa<T> faixa = faixa(entity.getId());
+        long carimbo = faixa.lock.writeLock();
+        try {
+            faixa.linhas.put(entity.getId(), entity);
+        } finally {
+            faixa.lock.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Lote: reserva todos os ids novos de uma vez e pega o lock de cada faixa
+     * uma única vez por bloco (em vez de uma vez por registro)
+     */
+    @Override
+    public ResultadoLote<T> saveAll(Iterator<? extends T> entidades) {
+        logOperation("SAVE_ALL");
+        return ProcessadorLote.executar(entidades, this::gravarLote);
+    }
+
+    @Override
+    public T findById(Long id) {
+        logOperation("FIND_BY_ID", id);
+        if (id == null) {
+            return null;
+        }
+        Faixa<T> faixa = faixa(id);
+
+        // 1ª tentativa: leitura otimista (não bloqueia nem escreve no lock)
+        long carimbo = faixa.lock.tryOptimisticRead();
+        if (carimbo != 0) {
+            T encontrado = faixa.linhas.getOtimista(id);
+            if (faixa.lock.validate(carimbo)) {
+                return encontrado;
+            }
+        }
+
+        // Houve escrita no meio: lê de novo com lock de leitura
+        carimbo = faixa.lock.readLock();
+        try {
+            return faixa.linhas.get(id);
+        } finally {
+            faixa.lock.unlockRead(carimbo);
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        logOperation("DELETE", id);
+        if (id == null) {
+            return;
+        }
+        Faixa<T> faixa = faixa(id);
+        long carimbo = faixa.lock.writeLock();
+        try {
+            faixa.linhas.remove(id);
+        } finally {
+            faixa.lock.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * 📸 Snapshot consistente de todas as faixas
+     *
+     * Primeiro tenta copiar cada faixa sem lock e depois valida todos os
+     * carimbos: se nenhuma faixa mudou durante a cópia, o resultado equivale
+     * a uma foto instantânea. Só se houver escritas repetidas é que pega o
+     * lock de leitura das faixas (nunca um lock global).
+     */
+    @Override
+    public List<T> findAll() {
+        logOperation("FIND_ALL");
+        for (int tentativa = 0; tentativa < TENTATIVAS_OTIMISTAS; tentativa++) {
+            List<T> copia = copiarOtimista();
+            if (copia != null) {
+                return copia;
+            }
+            Thread.onSpinWait();
+        }
+        return copiarComLocks();
+    }
+
+    public long size() {
+        long total = 0;
+        for (Faixa<T> faixa : faixas) {
+            long carimbo = faixa.lock.readLock();
+            try {
+                total += faixa.linhas.size();
+            } finally {
+                faixa.lock.unlockRead(carimbo);
+            }
+        }
+        return total;
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private Faixa<T> faixa(long id) {
+        return faixas[indiceFaixa(id)];
+    }
+
+    private int indiceFaixa(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 40) & mascara;
+    }
+
+    private void gravarLote(List<T> lote) {
+        int semId = 0;
+        for (T entidade : lote) {
+            if (entidade.getId() == null) {
+                semId++;
+            } else {
+                sequencia.accumulateAndGet(entidade.getId(), Math::max);
+            }
+        }
+        long proximo = sequencia.getAndAdd(semId) + 1;
+
+        // Agrupa por faixa: cada lock é adquirido uma vez por bloco
+        List<List<T>> porFaixa = new ArrayList<>(faixas.length);
+        for (int i = 0; i < faixas.length; i++) {
+            porFaixa.add(new ArrayList<>());
+        }
+        for (T entidade : lote) {
+            if (entidade.getId() == null) {
+                entidade.setId(proximo++);
+            }
+            porFaixa.get(indiceFaixa(entidade.getId())).add(entidade);
+        }
+
+        for (int i = 0; i < faixas.length; i++) {
+            List<T> daFaixa = porFaixa.get(i);
+            if (daFaixa.isEmpty()) {
+                continue;
+            }
+            long carimbo = faixas[i].lock.writeLock();
+            try {
+                for (T entidade : daFaixa) {
+                    faixas[i].linhas.put(entidade.getId(), entidade);
+                }
+            } finally {
+                faixas[i].lock.unlockWrite(carimbo);
+            }
+        }
+    }
+
+    private List<T> copiarOtimista() {
+        long[] carimbos = new long[faixas.length];
+        for (int i = 0; i < faixas.length; i++) {
+            carimbos[i] = faixas[i].lock.tryOptimisticRead();
+            if (carimbos[i] == 0) {
+                return null; // Alguém está escrevendo agora
+            }
+        }
+
+        List<T> copia = new ArrayList<>();
+        try {
+            for (Faixa<T> faixa : faixas) {
+                faixa.linhas.forEach(copia::add);
+            }
+        } catch (RuntimeException leituraInconsistente) {
+            return null; // Arrays trocados no meio da cópia: o carimbo também vai falhar
+        }
+
+        for (int i = 0; i < faixas.length; i++) {
+            if (!faixas[i].lock.validate(carimbos[i])) {
+                return null;
+            }
+        }
+        return copia;
+    }
+
+    private List<T> copiarComLocks() {
+        long[] carimbos = new long[faixas.length];
+        // Sempre na mesma ordem: escritores só pegam uma faixa, então não há deadlock
+        for (int i = 0; i < faixas.length; i++) {
+            carimbos[i] = faixas[i].lock.readLock();
+        }
+        try {
+            List<T> copia = new ArrayList<>();
+            for (Faixa<T> faixa : faixas) {
+                faixa.linhas.forEach(copia::add);
+            }
+            return copia;
+        } finally {
+            for (int i = faixas.length - 1; i >= 0; i--) {
+                faixas[i].lock.unlockRead(carimbos[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+/**
+ * 📋 INTERFACE: Como PHP Interface
+ * 
+ * PHP: interface RepositorioInterface { ... }
+ * Java: public interface legacy.fundamentals.ObjectOrientedProgramming.Repository<T> { ... }
+ */
+interface Repository<T extends Identificavel> {
+    void save(T entity);
+    T findById(Long id);
+    void delete(Long id);
+    java.util.List<T> findAll();
+    
+    // Gravação em lote (como Model::insert([...]) no Laravel): valida em paralelo
+    // e devolve um resumo em vez de imprimir uma linha por registro
+    default ResultadoLote<T> saveAll(java.util.Collection<? extends T> entidades) {
+        return saveAll(entidades.iterator());
+    }
+    default ResultadoLote<T> saveAll(java.util.Iterator<? extends T> entidades) {
+        return ProcessadorLote.executar(entidades, bloco -> bloco.forEach(this::save));
+    }
+    
+    // Índices secundários (como $table->index() em uma migration).
+    // O padrão só guarda a função de chave e busca por varredura (IndicesPorVarredura);
+    // quem tem índice de verdade (PessoaRepository) sobrescreve os dois
+    default void createIndex(String nome, java.util.function.Function<? super T, String> chave) {
+        IndicesPorVarredura.registrar(this, nome, chave);
+    }
+    default java.util.List<T> findByIndex(String nome, String valor) {
+        return IndicesPorVarredura.buscar(this, nome, valor);
+    }
+    
+    // Consultas (como o query builder do Eloquent): ver Consulta
+    default Consulta<T> query() {
+        return new Consulta<>(this);
+    }
+    // true só para índice de verdade (busca sem varredura): a Consulta usa como origem
+    default boolean hasIndex(String nome) {
+        return false;
+    }
+    // Leitura preguiçosa para as consultas; o padrão copia via findAll
+    default java.util.stream.Stream<T> stream() {
+        return findAll().stream();
+    }
+    // true se stream() vem em ordem crescente de id e streamAfter faz "seek"
+    default boolean isOrdenadoPorId() {
+        return false;
+    }
+    default java.util.stream.Stream<T> streamAfter(long id) {
+        return stream().filter(e -> e.getId() > id);
+    }
+    
+    // Log plugável: cada implementação escolhe o destino (padrão: console)
+    default RegistroOperacoes registroOperacoes() {
+        return RegistroOperacoes.CONSOLE;
+    }
+    
+    // Método default (novidade Java 8+, como trait PHP)
+    default void logOperation(String operation) {
+        logOperation(operation, null);
+    }
+    default void logOperation(String operation, Object detalhe) {
+        RegistroOperacoes registro = registroOperacoes();
+        if (registro.habilitado(RegistroOperacoes.Nivel.INFO)) {
+            registro.registrar(RegistroOperacoes.Nivel.INFO, operation, detalhe);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 📦 RESULTADO DE LOTE: Resumo de um saveAll
+ *
+ * PHP: ['salvos' => 998, 'rejeitados' => [17 => $pessoa, 450 => $outra]]
+ * Java: objeto imutável e compacto, sem imprimir nada por registro
+ *
+ * As posições são os índices (base 0) na ordem em que as entidades chegaram,
+ * e rejeitados.get(i) corresponde a posicoesRejeitadas[i].
+ */
+final class ResultadoLote<T> {
+    private final long total;
+    private final long[] posicoesRejeitadas;
+    private final List<T> rejeitados;
+
+    ResultadoLote(long total, long[] posicoesRejeitadas, List<T> rejeitados) {
+        this.total = total;
+        this.posicoesRejeitadas = posicoesRejeitadas;
+        this.rejeitados = Collections.unmodifiableList(rejeitados);
+    }
+
+    public long getTotal() { return total; }
+    public long getSalvos() { return total - posicoesRejeitadas.length; }
+    public int getQuantidadeRejeitados() { return posicoesRejeitadas.length; }
+    public long[] getPosicoesRejeitadas() { return posicoesRejeitadas.clone(); }
+    public List<T> getRejeitados() { return rejeitados; }
+    public boolean isSucessoTotal() { return posicoesRejeitadas.length == 0; }
+
+    @Override
+    public String toString() {
+        return String.format("Lote: %d recebidos, %d salvos, %d rejeitados", total, getSalvos(), posicoesRejeitadas.length);
+    }
+}
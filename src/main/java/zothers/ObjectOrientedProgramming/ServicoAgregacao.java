@@ -0,0 +1,238 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 📊 SERVIÇO DE AGREGAÇÃO: GROUP BY paralelo sobre o PessoaRepository
+ *
+ * PHP: SELECT linguagem, SUM(salario), AVG(salario) ... GROUP BY linguagem
+ *      (quem faz o trabalho é o MySQL)
+ * Java: aqui o "banco" está na memória, então dividimos as linhas em faixas
+ *       e cada thread do ForkJoinPool agrega a sua parte
+ *
+ * Cada tarefa folha tem seus próprios acumuladores (sem lock, sem
+ * contenção); no final os resultados parciais são mesclados de dois em dois,
+ * como no merge sort. Assim o ganho cresce quase linearmente com os núcleos.
+ * Não há cópia da tabela: as tarefas leem direto do índice primário.
+ */
+class ServicoAgregacao {
+    private static final int LINHAS_POR_TAREFA = 16_384;
+
+    /**
+     * Coluna usada no GROUP BY (texto livre agrupa pela mesma chave dos índices)
+     */
+    enum Dimensao {
+        LINGUAGEM, LEVEL, DEPARTAMENTO;
+
+        String chave(Pessoa pessoa) {
+            return switch (this) {
+                case LINGUAGEM -> pessoa instanceof Desenvolvedor
+                    ? IndiceSecundario.normalizar(((Desenvolvedor) pessoa).getLinguagemPrincipal()) : null;
+                case LEVEL -> pessoa instanceof Desenvolvedor ? ((Desenvolvedor) pessoa).getLevel() : null;
+                case DEPARTAMENTO -> pessoa instanceof Gerente
+                    ? IndiceSecundario.normalizar(((Gerente) pessoa).getDepartamento()) : null;
+            };
+        }
+    }
+
+    /**
+     * Coluna agregada (SUM/AVG/MIN/MAX de quê?)
+     */
+    enum Metrica {
+        SALARIO, TAMANHO_EQUIPE, IDADE;
+
+        boolean aplicavel(Pessoa pessoa) {
+            return switch (this) {
+                case SALARIO -> pessoa instanceof Desenvolvedor;
+                case TAMANHO_EQUIPE -> pessoa instanceof Gerente;
+                case IDADE -> true;
+            };
+        }
+
+        double valor(Pessoa pessoa) {
+            return switch (this) {
+                case SALARIO -> ((Desenvolvedor) pessoa).getSalario();
+                case TAMANHO_EQUIPE -> ((Gerente) pessoa).getTamanhoEquipe();
+                case IDADE -> pessoa.getIdade();
+            };
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    public ServicoAgregacao() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ServicoAgregacao(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Agrega sem histograma
+     */
+    public Map<String, Estatistica> agregar(PessoaRepository repositorio, Dimensao dimensao, Metrica metrica) {
+        return agregar(repositorio, dimensao, metrica, 0, 0, 0);
+    }
+
+    /**
+     * Agrega com histograma de {@code baldes} faixas iguais entre minimo e maximo
+     * (valores fora da faixa caem no primeiro/último balde)
+     */
+    public Map<String, Estatistica> agregar(PessoaRepository repositorio, Dimensao dimensao, Metrica metrica,
+                                            double minimoHistograma, double maximoHistograma, int baldes) {
+        if (baldes > 0 && maximoHistograma <= minimoHistograma) {
+            throw new IllegalArgumentException("Faixa do histograma inválida");
+        }
+        Parametros parametros = new Parametros(repositorio, dimensao, metrica, minimoHistograma, maximoHistograma, baldes);
+        Map<String, Estatistica> parcial = pool.invoke(new Tarefa(parametros, 0, repositorio.totalPosicoes()));
+        return new TreeMap<>(parcial); // Ordenado por chave, como um ORDER BY no relatório
+    }
+
+    // ==========================================
+    // Fork/Join
+    // ==========================================
+
+    private static final class Parametros {
+        final PessoaRepository repositorio;
+        final Dimensao dimensao;
+        final Metrica metrica;
+        final double minimo;
+        final double maximo;
+        final int baldes;
+
+        Parametros(PessoaRepository repositorio, Dimensao dimensao, Metrica metrica,
+                   double minimo, double maximo, int baldes) {
+            this.repositorio = repositorio;
+            this.dimensao = dimensao;
+            this.metrica = metrica;
+            this.minimo = minimo;
+            this.maximo = maximo;
+            this.baldes = baldes;
+        }
+    }
+
+    private static final class Tarefa extends RecursiveTask<Map<String, Estatistica>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Parametros parametros;
+        private final int inicio;
+        private final int fim;
+
+        Tarefa(Parametros parametros, int inicio, int fim) {
+            this.parametros = parametros;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected Map<String, Estatistica> compute() {
+            if (fim - inicio <= LINHAS_POR_TAREFA) {
+                return agregarFaixa();
+            }
+            int meio = (inicio + fim) >>> 1;
+            Tarefa esquerda = new Tarefa(parametros, inicio, meio);
+            esquerda.fork();
+            Map<String, Estatistica> direita = new Tarefa(parametros, meio, fim).compute();
+            return mesclar(esquerda.join(), direita);
+        }
+
+        private Map<String, Estatistica> agregarFaixa() {
+            Map<String, Estatistica> grupos = new HashMap<>();
+            // Cache do último grupo: linhas vizinhas costumam ter a mesma chave
+            String ultimaChave = null;
+            Estatistica ultimo = null;
+
+            for (int i = inicio; i < fim; i++) {
+                Pessoa pessoa = parametros.repositorio.naPosicao(i);
+                if (pessoa == null || !parametros.metrica.aplicavel(pessoa)) {
+                    continue;
+                }
+                String chave = parametros.dimensao.chave(pessoa);
+                if (chave == null) {
+                    continue;
+                }
+                if (!chave.equals(ultimaChave)) {
+                    ultimaChave = chave;
+                    ultimo = grupos.computeIfAbsent(chave,
+                        c -> new Estatistica(parametros.minimo, parametros.maximo, parametros.baldes));
+                }
+                ultimo.adicionar(parametros.metrica.valor(pessoa));
+            }
+            return grupos;
+        }
+
+        private static Map<String, Estatistica> mesclar(Map<String, Estatistica> a, Map<String, Estatistica> b) {
+            if (a.size() < b.size()) {
+                Map<String, Estatistica> troca = a;
+                a = b;
+                b = troca;
+            }
+            for (Map.Entry<String, Estatistica> entrada : b.entrySet()) {
+                a.merge(entrada.getKey(), entrada.getValue(), Estatistica::mesclar);
+            }
+            return a;
+        }
+    }
+
+    /**
+     * 📈 ESTATÍSTICA: COUNT, SUM, MIN, MAX, AVG e histograma de um grupo
+     *
+     * Mesclável: duas estatísticas parciais viram uma só (é o que permite
+     * cada thread acumular sozinha e juntar no final).
+     */
+    static final class Estatistica {
+        private long quantidade;
+        private double soma;
+        private double minimo = Double.POSITIVE_INFINITY;
+        private double maximo = Double.NEGATIVE_INFINITY;
+        private final double inicioHistograma;
+        private final double larguraBalde;
+        private final long[] histograma;
+
+        Estatistica(double inicioHistograma, double fimHistograma, int baldes) {
+            this.inicioHistograma = inicioHistograma;
+            this.larguraBalde = baldes > 0 ? (fimHistograma - inicioHistograma) / baldes : 0;
+            this.histograma = new long[baldes];
+        }
+
+        void adicionar(double valor) {
+            quantidade++;
+            soma += valor;
+            if (valor < minimo) minimo = valor;
+            if (valor > maximo) maximo = valor;
+            if (histograma.length > 0) {
+                int balde = (int) ((valor - inicioHistograma) / larguraBalde);
+                histograma[Math.max(0, Math.min(histograma.length - 1, balde))]++;
+            }
+        }
+
+        Estatistica mesclar(Estatistica outra) {
+            quantidade += outra.quantidade;
+            soma += outra.soma;
+            minimo = Math.min(minimo, outra.minimo);
+            maximo = Math.max(maximo, outra.maximo);
+            for (int i = 0; i < histograma.length; i++) {
+                histograma[i] += outra.histograma[i];
+            }
+            return this;
+        }
+
+        public long getQuantidade() { return quantidade; }
+        public double getSoma() { return soma; }
+        public double getMinimo() { return quantidade == 0 ? Double.NaN : minimo; }
+        public double getMaximo() { return quantidade == 0 ? Double.NaN : maximo; }
+        public double getMedia() { return quantidade == 0 ? Double.NaN : soma / quantidade; }
+        public long[] getHistograma() { return histograma.clone(); }
+
+        @Override
+        public String toString() {
+            return String.format("n=%d soma=%.2f min=%.2f max=%.2f média=%.2f",
+                quantidade, soma, getMinimo(), getMaximo(), getMedia());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package main.java.zothers.ObjectOrientedProgramming;
+
+/**
+ * 🎯 Interface para validação (como PHP Validator)
+ */
+interface Validatable {
+    boolean isValid();
+    String getValidationMessage();
+}
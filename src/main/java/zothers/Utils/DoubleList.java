@@ -0,0 +1,279 @@
+package main.java.zothers.Utils;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * 🔢 DOUBLE LIST: A IntList para double (medidas, médias, pesos)
+ *
+ * PHP: float do PHP; em Java, List<Double> boxa cada valor
+ * Java: DoubleList.of(...).pipeline().filter(...).map(...).sum()
+ *
+ * Mesmo pipeline em blocos e mesmo parallel() da IntList.
+ * Para dinheiro, use long em centavos (LongList), não double.
+ */
+public final class DoubleList {
+    private double[] dados;
+    private int tamanho;
+
+    public DoubleList() {
+        this(16);
+    }
+
+    public DoubleList(int capacidade) {
+        dados = new double[Math.max(1, capacidade)];
+    }
+
+    private DoubleList(double[] dados, int tamanho) {
+        this.dados = dados;
+        this.tamanho = tamanho;
+    }
+
+    public static DoubleList of(double... valores) {
+        return new DoubleList(valores.clone(), valores.length);
+    }
+
+    public void add(double valor) {
+        if (tamanho == dados.length) {
+            dados = Arrays.copyOf(dados, Math.max(8, tamanho * 2)); // Lista vazia tem array de tamanho 0
+        }
+        dados[tamanho++] = valor;
+    }
+
+    public void addAll(DoubleList outra) {
+        addAll(outra.dados, 0, outra.tamanho);
+    }
+
+    private void addAll(double[] valores, int de, int ate) {
+        int n = ate - de;
+        if (tamanho + n > dados.length) {
+            dados = Arrays.copyOf(dados, Math.max(tamanho + n, tamanho * 2));
+        }
+        System.arraycopy(valores, de, dados, tamanho, n);
+        tamanho += n;
+    }
+
+    public double get(int indice) {
+        if (indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do tamanho " + tamanho);
+        }
+        return dados[indice];
+    }
+
+    public void set(int indice, double valor) {
+        if (indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do tamanho " + tamanho);
+        }
+        dados[indice] = valor;
+    }
+
+    public int size() { return tamanho; }
+    public boolean isEmpty() { return tamanho == 0; }
+
+    public double[] toArray() {
+        return Arrays.copyOf(dados, tamanho);
+    }
+
+    /**
+     * Começa um pipeline sequencial sobre os elementos atuais
+     */
+    public Pipeline pipeline() {
+        return new Pipeline(dados, tamanho, new Estagio[0], false);
+    }
+
+    @Override
+    public boolean equals(Object outro) {
+        return outro instanceof DoubleList && Arrays.equals(dados, 0, tamanho, ((DoubleList) outro).dados, 0,
+            ((DoubleList) outro).tamanho);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < tamanho; i++) {
+            hash = 31 * hash + Double.hashCode(dados[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Mesmo formato do toString de List: [1, 2, 3]
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(tamanho * 4 + 2).append('[');
+        for (int i = 0; i < tamanho; i++) {
+            texto.append(i == 0 ? "" : ", ").append(dados[i]);
+        }
+        return texto.append(']').toString();
+    }
+
+    // ==========================================
+    // Pipeline fundido
+    // ==========================================
+
+    /**
+     * Estágios são só descritos aqui; a execução acontece no método terminal.
+     * Cada chamada devolve um novo Pipeline (o anterior continua válido).
+     */
+    public static final class Pipeline {
+        private static final int TAMANHO_BLOCO = 1024; // 8 KB: cabe folgado no cache L1
+
+        private final double[] dados;
+        private final int tamanho;
+        private final Estagio[] estagios;
+        private final boolean paralelo;
+
+        private Pipeline(double[] dados, int tamanho, Estagio[] estagios, boolean paralelo) {
+            this.dados = dados;
+            this.tamanho = tamanho;
+            this.estagios = estagios;
+            this.paralelo = paralelo;
+        }
+
+        public Pipeline filter(DoublePredicate condicao) {
+            return com(new Estagio(condicao, null));
+        }
+
+        public Pipeline map(DoubleUnaryOperator funcao) {
+            return com(new Estagio(null, funcao));
+        }
+
+        /**
+         * Executa no ForkJoinPool (faixas de pelo menos Faixas.LIMIAR elementos)
+         */
+        public Pipeline parallel() {
+            return new Pipeline(dados, tamanho, estagios, true);
+        }
+
+        public double reduce(double identidade, DoubleBinaryOperator operador) {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                double[] acumulador = {identidade};
+                percorrer(inicio, fim, (valores, de, ate) -> {
+                    double parcial = acumulador[0];
+                    for (int i = de; i < ate; i++) {
+                        parcial = operador.applyAsDouble(parcial, valores[i]);
+                    }
+                    acumulador[0] = parcial;
+                });
+                return acumulador[0];
+            }, (a, b) -> operador.applyAsDouble(a, b));
+        }
+
+        /**
+         * Em paralelo a ordem das somas muda: o resultado pode diferir nos últimos dígitos
+         */
+        public double sum() {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                double[] soma = {0};
+                percorrer(inicio, fim, (valores, de, ate) -> {
+                    double parcial = soma[0];
+                    for (int i = de; i < ate; i++) {
+                        parcial += valores[i];
+                    }
+                    soma[0] = parcial;
+                });
+                return soma[0];
+            }, Double::sum);
+        }
+
+        public long count() {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                long[] contagem = {0};
+                percorrer(inicio, fim, (valores, de, ate) -> contagem[0] += ate - de);
+                return contagem[0];
+            }, Long::sum);
+        }
+
+        /**
+         * Resultado em ordem, mesmo em paralelo (as faixas são juntadas da esquerda para a direita)
+         */
+        public DoubleList toList() {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                DoubleList lista = new DoubleList(Math.min(fim - inicio, TAMANHO_BLOCO));
+                percorrer(inicio, fim, (valores, de, ate) -> lista.addAll(valores, de, ate));
+                return lista;
+            }, (a, b) -> {
+                a.addAll(b.dados, 0, b.tamanho);
+                return a;
+            });
+        }
+
+        /**
+         * Sempre sequencial e em ordem
+         */
+        public void forEach(DoubleConsumer acao) {
+            percorrer(0, tamanho, (valores, de, ate) -> {
+                for (int i = de; i < ate; i++) {
+                    acao.accept(valores[i]);
+                }
+            });
+        }
+
+        private Pipeline com(Estagio estagio) {
+            Estagio[] novos = Arrays.copyOf(estagios, estagios.length + 1);
+            novos[estagios.length] = estagio;
+            return new Pipeline(dados, tamanho, novos, paralelo);
+        }
+
+        /**
+         * O laço fundido, um bloco por vez: copia até 1024 valores para um buffer,
+         * aplica cada estágio no bloco inteiro (laços curtos, sem objetos) e
+         * entrega o que sobrou ao terminal. Sem estágios, entrega o array direto.
+         */
+        private void percorrer(int inicio, int fim, Terminal terminal) {
+            if (estagios.length == 0) {
+                terminal.consumir(dados, inicio, fim);
+                return;
+            }
+            double[] bloco = new double[Math.min(TAMANHO_BLOCO, fim - inicio)]; // Um por faixa, não por elemento
+            for (int base = inicio; base < fim; base += TAMANHO_BLOCO) {
+                int n = Math.min(TAMANHO_BLOCO, fim - base);
+                System.arraycopy(dados, base, bloco, 0, n);
+                for (int e = 0; e < estagios.length && n > 0; e++) {
+                    n = estagios[e].aplicar(bloco, n);
+                }
+                if (n > 0) {
+                    terminal.consumir(bloco, 0, n);
+                }
+            }
+        }
+    }
+
+    private interface Terminal {
+        void consumir(double[] valores, int de, int ate);
+    }
+
+    private static final class Estagio {
+        final DoublePredicate condicao;   // filter (ou null)
+        final DoubleUnaryOperator funcao; // map (ou null)
+
+        Estagio(DoublePredicate condicao, DoubleUnaryOperator funcao) {
+            this.condicao = condicao;
+            this.funcao = funcao;
+        }
+
+        /**
+         * Aplica no bloco e retorna quantos valores continuam (filter compacta no lugar)
+         */
+        int aplicar(double[] bloco, int n) {
+            if (condicao != null) {
+                int mantidos = 0;
+                for (int i = 0; i < n; i++) {
+                    double valor = bloco[i];
+                    if (condicao.test(valor)) {
+                        bloco[mantidos++] = valor;
+                    }
+                }
+                return mantidos;
+            }
+            for (int i = 0; i < n; i++) {
+                bloco[i] = funcao.applyAsDouble(bloco[i]);
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package main.java.zothers.Utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * ✂️ FAIXAS: Divide [0, tamanho) em pedaços para o fork-join (usado pelas listas primitivas)
+ *
+ * Cada folha processa uma faixa contínua do array e devolve um resultado
+ * parcial; os parciais são combinados da esquerda para a direita, então
+ * resultados que dependem da ordem (toList) saem na ordem original.
+ */
+final class Faixas {
+    static final int LIMIAR = 1 << 14; // Faixas menores rodam direto (não vale o custo de dividir)
+
+    /**
+     * Processa uma faixa [inicio, fim) e devolve o resultado parcial
+     */
+    interface Folha<R> {
+        R processar(int inicio, int fim);
+    }
+
+    private Faixas() {
+    }
+
+    static <R> R executar(int tamanho, boolean paralelo, Folha<R> folha, BinaryOperator<R> combinar) {
+        if (!paralelo || tamanho <= LIMIAR) {
+            return folha.processar(0, tamanho);
+        }
+        return ForkJoinPool.commonPool().invoke(new Tarefa<>(0, tamanho, folha, combinar));
+    }
+
+    private static final class Tarefa<R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+
+        private final int inicio;
+        private final int fim;
+        private final Folha<R> folha;
+        private final BinaryOperator<R> combinar;
+
+        Tarefa(int inicio, int fim, Folha<R> folha, BinaryOperator<R> combinar) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.folha = folha;
+            this.combinar = combinar;
+        }
+
+        @Override
+        protected R compute() {
+            if (fim - inicio <= LIMIAR) {
+                return folha.processar(inicio, fim);
+            }
+            int meio = (inicio + fim) >>> 1;
+            Tarefa<R> esquerda = new Tarefa<>(inicio, meio, folha, combinar);
+            esquerda.fork();
+            R direita = new Tarefa<>(meio, fim, folha, combinar).compute();
+            return combinar.apply(esquerda.join(), direita);
+        }
+    }
+}
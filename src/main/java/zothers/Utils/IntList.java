@@ -0,0 +1,301 @@
+package main.java.zothers.Utils;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 🔢 INT LIST: Lista de int sem boxing (int[] que cresce sozinho)
+ *
+ * PHP: array_sum(array_map(fn($n) => $n * 2, array_filter($numeros, fn($n) => $n > 5)))
+ * Java: numeros.pipeline().filter(n -> n > 5).map(n -> n * 2).sum()
+ *
+ * List<Integer> guarda um objeto Integer por número (16 bytes + referência) e
+ * cada estágio de Stream<Integer> cria mais Integers. Aqui os números ficam
+ * num int[] e o pipeline é "fundido": nada de lista intermediária entre
+ * filter e map. Os valores passam em blocos de 1024 por um buffer int[]
+ * reaproveitado, e cada estágio roda um laço curto sobre o bloco.
+ * Nenhuma alocação por elemento.
+ *
+ * parallel() divide o array em faixas no ForkJoinPool (cada faixa com seu
+ * próprio buffer e acumulador). O operador de reduce deve ser associativo.
+ */
+public final class IntList {
+    private int[] dados;
+    private int tamanho;
+
+    public IntList() {
+        this(16);
+    }
+
+    public IntList(int capacidade) {
+        dados = new int[Math.max(1, capacidade)];
+    }
+
+    private IntList(int[] dados, int tamanho) {
+        this.dados = dados;
+        this.tamanho = tamanho;
+    }
+
+    public static IntList of(int... valores) {
+        return new IntList(valores.clone(), valores.length);
+    }
+
+    /**
+     * Números de inicio (inclusive) até fim (exclusive), como PHP range($inicio, $fim - 1)
+     */
+    public static IntList range(int inicio, int fim) {
+        long quantidade = Math.max(0, (long) fim - inicio); // Em long: range(-2e9, 2e9) estoura int
+        if (quantidade > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Faixa grande demais para um array: " + quantidade + " números");
+        }
+        int[] valores = new int[(int) quantidade];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = inicio + i;
+        }
+        return new IntList(valores, valores.length);
+    }
+
+    public void add(int valor) {
+        if (tamanho == dados.length) {
+            dados = Arrays.copyOf(dados, Math.max(8, tamanho * 2)); // Lista vazia tem array de tamanho 0
+        }
+        dados[tamanho++] = valor;
+    }
+
+    public void addAll(IntList outra) {
+        addAll(outra.dados, 0, outra.tamanho);
+    }
+
+    private void addAll(int[] valores, int de, int ate) {
+        int n = ate - de;
+        if (tamanho + n > dados.length) {
+            dados = Arrays.copyOf(dados, Math.max(tamanho + n, tamanho * 2));
+        }
+        System.arraycopy(valores, de, dados, tamanho, n);
+        tamanho += n;
+    }
+
+    public int get(int indice) {
+        if (indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do tamanho " + tamanho);
+        }
+        return dados[indice];
+    }
+
+    public void set(int indice, int valor) {
+        if (indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do tamanho " + tamanho);
+        }
+        dados[indice] = valor;
+    }
+
+    public int size() { return tamanho; }
+    public boolean isEmpty() { return tamanho == 0; }
+
+    public int[] toArray() {
+        return Arrays.copyOf(dados, tamanho);
+    }
+
+    /**
+     * Começa um pipeline sequencial sobre os elementos atuais
+     */
+    public Pipeline pipeline() {
+        return new Pipeline(dados, tamanho, new Estagio[0], false);
+    }
+
+    @Override
+    public boolean equals(Object outro) {
+        return outro instanceof IntList && Arrays.equals(dados, 0, tamanho, ((IntList) outro).dados, 0,
+            ((IntList) outro).tamanho);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < tamanho; i++) {
+            hash = 31 * hash + dados[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Mesmo formato do toString de List: [1, 2, 3]
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(tamanho * 4 + 2).append('[');
+        for (int i = 0; i < tamanho; i++) {
+            texto.append(i == 0 ? "" : ", ").append(dados[i]);
+        }
+        return texto.append(']').toString();
+    }
+
+    // ==========================================
+    // Pipeline fundido
+    // ==========================================
+
+    /**
+     * Estágios são só descritos aqui; a execução acontece no método terminal.
+     * Cada chamada devolve um novo Pipeline (o anterior continua válido).
+     */
+    public static final class Pipeline {
+        private static final int TAMANHO_BLOCO = 1024; // 4 KB: cabe folgado no cache L1
+
+        private final int[] dados;
+        private final int tamanho;
+        private final Estagio[] estagios;
+        private final boolean paralelo;
+
+        private Pipeline(int[] dados, int tamanho, Estagio[] estagios, boolean paralelo) {
+            this.dados = dados;
+            this.tamanho = tamanho;
+            this.estagios = estagios;
+            this.paralelo = paralelo;
+        }
+
+        public Pipeline filter(IntPredicate condicao) {
+            return com(new Estagio(condicao, null));
+        }
+
+        public Pipeline map(IntUnaryOperator funcao) {
+            return com(new Estagio(null, funcao));
+        }
+
+        /**
+         * Executa no ForkJoinPool (faixas de pelo menos Faixas.LIMIAR elementos)
+         */
+        public Pipeline parallel() {
+            return new Pipeline(dados, tamanho, estagios, true);
+        }
+
+        public int reduce(int identidade, IntBinaryOperator operador) {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                int[] acumulador = {identidade};
+                percorrer(inicio, fim, (valores, de, ate) -> {
+                    int parcial = acumulador[0];
+                    for (int i = de; i < ate; i++) {
+                        parcial = operador.applyAsInt(parcial, valores[i]);
+                    }
+                    acumulador[0] = parcial;
+                });
+                return acumulador[0];
+            }, (a, b) -> operador.applyAsInt(a, b));
+        }
+
+        /**
+         * Soma em long (não estoura com milhões de ints)
+         */
+        public long sum() {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                long[] soma = {0};
+                percorrer(inicio, fim, (valores, de, ate) -> {
+                    long parcial = 0;
+                    for (int i = de; i < ate; i++) {
+                        parcial += valores[i];
+                    }
+                    soma[0] += parcial;
+                });
+                return soma[0];
+            }, Long::sum);
+        }
+
+        public long count() {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                long[] contagem = {0};
+                percorrer(inicio, fim, (valores, de, ate) -> contagem[0] += ate - de);
+                return contagem[0];
+            }, Long::sum);
+        }
+
+        /**
+         * Resultado em ordem, mesmo em paralelo (as faixas são juntadas da esquerda para a direita)
+         */
+        public IntList toList() {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                IntList lista = new IntList(Math.min(fim - inicio, TAMANHO_BLOCO));
+                percorrer(inicio, fim, (valores, de, ate) -> lista.addAll(valores, de, ate));
+                return lista;
+            }, (a, b) -> {
+                a.addAll(b.dados, 0, b.tamanho);
+                return a;
+            });
+        }
+
+        /**
+         * Sempre sequencial e em ordem
+         */
+        public void forEach(IntConsumer acao) {
+            percorrer(0, tamanho, (valores, de, ate) -> {
+                for (int i = de; i < ate; i++) {
+                    acao.accept(valores[i]);
+                }
+            });
+        }
+
+        private Pipeline com(Estagio estagio) {
+            Estagio[] novos = Arrays.copyOf(estagios, estagios.length + 1);
+            novos[estagios.length] = estagio;
+            return new Pipeline(dados, tamanho, novos, paralelo);
+        }
+
+        /**
+         * O laço fundido, um bloco por vez: copia até 1024 valores para um buffer,
+         * aplica cada estágio no bloco inteiro (laços curtos, sem objetos) e
+         * entrega o que sobrou ao terminal. Sem estágios, entrega o array direto.
+         */
+        private void percorrer(int inicio, int fim, Terminal terminal) {
+            if (estagios.length == 0) {
+                terminal.consumir(dados, inicio, fim);
+                return;
+            }
+            int[] bloco = new int[Math.min(TAMANHO_BLOCO, fim - inicio)]; // Um por faixa, não por elemento
+            for (int base = inicio; base < fim; base += TAMANHO_BLOCO) {
+                int n = Math.min(TAMANHO_BLOCO, fim - base);
+                System.arraycopy(dados, base, bloco, 0, n);
+                for (int e = 0; e < estagios.length && n > 0; e++) {
+                    n = estagios[e].aplicar(bloco, n);
+                }
+                if (n > 0) {
+                    terminal.consumir(bloco, 0, n);
+                }
+            }
+        }
+    }
+
+    private interface Terminal {
+        void consumir(int[] valores, int de, int ate);
+    }
+
+    private static final class Estagio {
+        final IntPredicate condicao;   // filter (ou null)
+        final IntUnaryOperator funcao; // map (ou null)
+
+        Estagio(IntPredicate condicao, IntUnaryOperator funcao) {
+            this.condicao = condicao;
+            this.funcao = funcao;
+        }
+
+        /**
+         * Aplica no bloco e retorna quantos valores continuam (filter compacta no lugar)
+         */
+        int aplicar(int[] bloco, int n) {
+            if (condicao != null) {
+                int mantidos = 0;
+                for (int i = 0; i < n; i++) {
+                    int valor = bloco[i];
+                    if (condicao.test(valor)) {
+                        bloco[mantidos++] = valor;
+                    }
+                }
+                return mantidos;
+            }
+            for (int i = 0; i < n; i++) {
+                bloco[i] = funcao.applyAsInt(bloco[i]);
+            }
+            return n;
+        }
+    }
+}
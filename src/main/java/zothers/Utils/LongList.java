@@ -0,0 +1,293 @@
+package main.java.zothers.Utils;
+
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 🔢 LONG LIST: A IntList para long (ids, centavos, timestamps)
+ *
+ * PHP: int do PHP já é 64 bits; em Java, List<Long> boxa cada valor
+ * Java: LongList.of(...).pipeline().filter(...).map(...).sum()
+ *
+ * Mesmo pipeline em blocos e mesmo parallel() da IntList.
+ */
+public final class LongList {
+    private long[] dados;
+    private int tamanho;
+
+    public LongList() {
+        this(16);
+    }
+
+    public LongList(int capacidade) {
+        dados = new long[Math.max(1, capacidade)];
+    }
+
+    private LongList(long[] dados, int tamanho) {
+        this.dados = dados;
+        this.tamanho = tamanho;
+    }
+
+    public static LongList of(long... valores) {
+        return new LongList(valores.clone(), valores.length);
+    }
+
+    /**
+     * Números de inicio (inclusive) até fim (exclusive)
+     */
+    public static LongList range(long inicio, long fim) {
+        long quantidade = fim <= inicio ? 0 : fim - inicio; // Negativo aqui = a subtração estourou
+        if (quantidade < 0 || quantidade > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Faixa grande demais para um array: de " + inicio + " até " + fim);
+        }
+        long[] valores = new long[(int) quantidade];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = inicio + i;
+        }
+        return new LongList(valores, valores.length);
+    }
+
+    public void add(long valor) {
+        if (tamanho == dados.length) {
+            dados = Arrays.copyOf(dados, Math.max(8, tamanho * 2)); // Lista vazia tem array de tamanho 0
+        }
+        dados[tamanho++] = valor;
+    }
+
+    public void addAll(LongList outra) {
+        addAll(outra.dados, 0, outra.tamanho);
+    }
+
+    private void addAll(long[] valores, int de, int ate) {
+        int n = ate - de;
+        if (tamanho + n > dados.length) {
+            dados = Arrays.copyOf(dados, Math.max(tamanho + n, tamanho * 2));
+        }
+        System.arraycopy(valores, de, dados, tamanho, n);
+        tamanho += n;
+    }
+
+    public long get(int indice) {
+        if (indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do tamanho " + tamanho);
+        }
+        return dados[indice];
+    }
+
+    public void set(int indice, long valor) {
+        if (indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do tamanho " + tamanho);
+        }
+        dados[indice] = valor;
+    }
+
+    public int size() { return tamanho; }
+    public boolean isEmpty() { return tamanho == 0; }
+
+    public long[] toArray() {
+        return Arrays.copyOf(dados, tamanho);
+    }
+
+    /**
+     * Começa um pipeline sequencial sobre os elementos atuais
+     */
+    public Pipeline pipeline() {
+        return new Pipeline(dados, tamanho, new Estagio[0], false);
+    }
+
+    @Override
+    public boolean equals(Object outro) {
+        return outro instanceof LongList && Arrays.equals(dados, 0, tamanho, ((LongList) outro).dados, 0,
+            ((LongList) outro).tamanho);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < tamanho; i++) {
+            hash = 31 * hash + Long.hashCode(dados[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Mesmo formato do toString de List: [1, 2, 3]
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(tamanho * 4 + 2).append('[');
+        for (int i = 0; i < tamanho; i++) {
+            texto.append(i == 0 ? "" : ", ").append(dados[i]);
+        }
+        return texto.append(']').toString();
+    }
+
+    // ==========================================
+    // Pipeline fundido
+    // ==========================================
+
+    /**
+     * Estágios são só descritos aqui; a execução acontece no método terminal.
+     * Cada chamada devolve um novo Pipeline (o anterior continua válido).
+     */
+    public static final class Pipeline {
+        private static final int TAMANHO_BLOCO = 1024; // 8 KB: cabe folgado no cache L1
+
+        private final long[] dados;
+        private final int tamanho;
+        private final Estagio[] estagios;
+        private final boolean paralelo;
+
+        private Pipeline(long[] dados, int tamanho, Estagio[] estagios, boolean paralelo) {
+            this.dados = dados;
+            this.tamanho = tamanho;
+            this.estagios = estagios;
+            this.paralelo = paralelo;
+        }
+
+        public Pipeline filter(LongPredicate condicao) {
+            return com(new Estagio(condicao, null));
+        }
+
+        public Pipeline map(LongUnaryOperator funcao) {
+            return com(new Estagio(null, funcao));
+        }
+
+        /**
+         * Executa no ForkJoinPool (faixas de pelo menos Faixas.LIMIAR elementos)
+         */
+        public Pipeline parallel() {
+            return new Pipeline(dados, tamanho, estagios, true);
+        }
+
+        public long reduce(long identidade, LongBinaryOperator operador) {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                long[] acumulador = {identidade};
+                percorrer(inicio, fim, (valores, de, ate) -> {
+                    long parcial = acumulador[0];
+                    for (int i = de; i < ate; i++) {
+                        parcial = operador.applyAsLong(parcial, valores[i]);
+                    }
+                    acumulador[0] = parcial;
+                });
+                return acumulador[0];
+            }, (a, b) -> operador.applyAsLong(a, b));
+        }
+
+        /**
+         * Soma com verificação de overflow (ArithmeticException, como Dinheiro.somar)
+         */
+        public long sum() {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                long[] soma = {0};
+                percorrer(inicio, fim, (valores, de, ate) -> {
+                    long parcial = soma[0];
+                    for (int i = de; i < ate; i++) {
+                        parcial = Math.addExact(parcial, valores[i]);
+                    }
+                    soma[0] = parcial;
+                });
+                return soma[0];
+            }, Math::addExact);
+        }
+
+        public long count() {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                long[] contagem = {0};
+                percorrer(inicio, fim, (valores, de, ate) -> contagem[0] += ate - de);
+                return contagem[0];
+            }, Long::sum);
+        }
+
+        /**
+         * Resultado em ordem, mesmo em paralelo (as faixas são juntadas da esquerda para a direita)
+         */
+        public LongList toList() {
+            return Faixas.executar(tamanho, paralelo, (inicio, fim) -> {
+                LongList lista = new LongList(Math.min(fim - inicio, TAMANHO_BLOCO));
+                percorrer(inicio, fim, (valores, de, ate) -> lista.addAll(valores, de, ate));
+                return lista;
+            }, (a, b) -> {
+                a.addAll(b.dados, 0, b.tamanho);
+                return a;
+            });
+        }
+
+        /**
+         * Sempre sequencial e em ordem
+         */
+        public void forEach(LongConsumer acao) {
+            percorrer(0, tamanho, (valores, de, ate) -> {
+                for (int i = de; i < ate; i++) {
+                    acao.accept(valores[i]);
+                }
+            });
+        }
+
+        private Pipeline com(Estagio estagio) {
+            Estagio[] novos = Arrays.copyOf(estagios, estagios.length + 1);
+            novos[estagios.length] = estagio;
+            return new Pipeline(dados, tamanho, novos, paralelo);
+        }
+
+        /**
+         * O laço fundido, um bloco por vez: copia até 1024 valores para um buffer,
+         * aplica cada estágio no bloco inteiro (laços curtos, sem objetos) e
+         * entrega o que sobrou ao terminal. Sem estágios, entrega o array direto.
+         */
+        private void percorrer(int inicio, int fim, Terminal terminal) {
+            if (estagios.length == 0) {
+                terminal.consumir(dados, inicio, fim);
+                return;
+            }
+            long[] bloco = new long[Math.min(TAMANHO_BLOCO, fim - inicio)]; // Um por faixa, não por elemento
+            for (int base = inicio; base < fim; base += TAMANHO_BLOCO) {
+                int n = Math.min(TAMANHO_BLOCO, fim - base);
+                System.arraycopy(dados, base, bloco, 0, n);
+                for (int e = 0; e < estagios.length && n > 0; e++) {
+                    n = estagios[e].aplicar(bloco, n);
+                }
+                if (n > 0) {
+                    terminal.consumir(bloco, 0, n);
+                }
+            }
+        }
+    }
+
+    private interface Terminal {
+        void consumir(long[] valores, int de, int ate);
+    }
+
+    private static final class Estagio {
+        final LongPredicate condicao;   // filter (ou null)
+        final LongUnaryOperator funcao; // map (ou null)
+
+        Estagio(LongPredicate condicao, LongUnaryOperator funcao) {
+            this.condicao = condicao;
+            this.funcao = funcao;
+        }
+
+        /**
+         * Aplica no bloco e retorna quantos valores continuam (filter compacta no lugar)
+         */
+        int aplicar(long[] bloco, int n) {
+            if (condicao != null) {
+                int mantidos = 0;
+                for (int i = 0; i < n; i++) {
+                    long valor = bloco[i];
+                    if (condicao.test(valor)) {
+                        bloco[mantidos++] = valor;
+                    }
+                }
+                return mantidos;
+            }
+            for (int i = 0; i < n; i++) {
+                bloco[i] = funcao.applyAsLong(bloco[i]);
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package main.java.zothers.examples;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+/**
+ * 🌙 APURAÇÃO DE ENCARGOS: Juros e tarifa do dia em todas as contas
+ *
+ * PHP: um cron noturno com foreach ($contas as $c) { $c->depositar($juros); $c->sacar($tarifa); }
+ * Java: blocos de contas em paralelo, contas em arrays primitivos, diário em lote
+ *
+ * - Taxa em ponto fixo: partes por bilhão ao dia (long), nada de double
+ * - As contas são ordenadas por id e divididas em blocos; cada bloco trava
+ *   as suas contas em ordem crescente de id (a mesma regra das transferências,
+ *   então não há deadlock), lê os saldos num long[], calcula num laço simples
+ *   e anexa todas as entradas do bloco ao diário com um único lock
+ * - Um único "aguardar fsync" no final, como no LoteTransferencias
+ *
+ * Retomada: a entrada de juros/tarifa guarda o dia apurado, e a recuperação
+ * do diário marca a conta (ServicoBancario.recuperar mantém os ids). Depois
+ * de uma queda, recupere as contas e rode executar() de novo para o mesmo
+ * dia: contas já apuradas são puladas, então ninguém recebe juros duas vezes.
+ * A conta guarda cada dia apurado (não só o último): um dia esquecido pode
+ * ser apurado depois de dias mais recentes.
+ */
+class ApuracaoEncargos {
+    static final long ESCALA_TAXA = 1_000_000_000L; // 1 = 0,0000001% ao dia
+    private static final int CONTAS_POR_BLOCO = 512;
+    private static final BigInteger ESCALA_GRANDE = BigInteger.valueOf(ESCALA_TAXA);
+
+    private final DiarioLedger diario; // null = sem durabilidade
+    private final long taxaJurosDiaria; // Partes por bilhão sobre o saldo
+    private final long tarifaDiariaCentavos;
+
+    public ApuracaoEncargos(DiarioLedger diario, long taxaJurosDiaria, long tarifaDiariaCentavos) {
+        if (taxaJurosDiaria < 0 || tarifaDiariaCentavos < 0) {
+            throw new IllegalArgumentException("Taxa e tarifa não podem ser negativas");
+        }
+        this.diario = diario;
+        this.taxaJurosDiaria = taxaJurosDiaria;
+        this.tarifaDiariaCentavos = tarifaDiariaCentavos;
+    }
+
+    /**
+     * "0.0328" (% ao dia) → 328000 partes por bilhão. Conversão exata, só na configuração.
+     */
+    static long taxaDePercentualDiario(String percentual) {
+        return new BigDecimal(percentual).movePointRight(7).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+    }
+
+    /**
+     * Apura o dia em todas as contas e só retorna com tudo no diário (e no disco)
+     */
+    public Resumo executar(Collection<ContaBancaria> contas, LocalDate dia) {
+        ContaBancaria[] ordenadas = contas.toArray(new ContaBancaria[0]);
+        Arrays.sort(ordenadas, Comparator.comparingLong(ContaBancaria::getId));
+        long epochDia = dia.toEpochDay();
+        // Instante do lançamento: fim do dia apurado (UTC), igual para todas as contas
+        long instante = dia.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli() - 1;
+
+        Totais totais = new Totais();
+        int blocos = (ordenadas.length + CONTAS_POR_BLOCO - 1) / CONTAS_POR_BLOCO;
+        IntStream.range(0, blocos).parallel().forEach(bloco -> {
+            int inicio = bloco * CONTAS_POR_BLOCO;
+            apurarBloco(ordenadas, inicio, Math.min(ordenadas.length, inicio + CONTAS_POR_BLOCO),
+                epochDia, instante, totais);
+        });
+        if (diario != null) {
+            diario.sincronizar();
+        }
+        return new Resumo(totais.apuradas.sum(), totais.puladas.sum(), totais.juros.sum(), totais.tarifas.sum());
+    }
+
+    /**
+     * Juros de um saldo em centavos, arredondando para o centavo mais próximo (empate: par)
+     */
+    long calcularJuros(long saldo) {
+        if (saldo <= 0 || taxaJurosDiaria == 0) {
+            return 0;
+        }
+        long alto = Math.multiplyHigh(saldo, taxaJurosDiaria);
+        long produto = saldo * taxaJurosDiaria;
+        if (alto != 0 || produto < 0) { // Não coube em 63 bits: caminho lento (saldos astronômicos)
+            return new BigDecimal(BigInteger.valueOf(saldo).multiply(BigInteger.valueOf(taxaJurosDiaria)))
+                .divide(new BigDecimal(ESCALA_GRANDE), 0, RoundingMode.HALF_EVEN).longValueExact();
+        }
+        long quociente = produto / ESCALA_TAXA;
+        long resto = produto % ESCALA_TAXA;
+        if (resto * 2 > ESCALA_TAXA || (resto * 2 == ESCALA_TAXA && (quociente & 1) == 1)) {
+            quociente++;
+        }
+        return quociente;
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private void apurarBloco(ContaBancaria[] contas, int inicio, int fim, long dia, long instante, Totais totais) {
+        int n = fim - inicio;
+        long[] saldos = new long[n];
+        long[] juros = new long[n];
+        long[] tarifas = new long[n];
+        // Entradas do diário: até 2 por conta (juros e tarifa)
+        byte[] tipos = new byte[n * 2];
+        long[] ids = new long[n * 2];
+        long[] dias = new long[n * 2];
+        long[] valores = new long[n * 2];
+
+        int travadas = 0;
+        try {
+            // 1. Trava em ordem crescente de id (o array já está ordenado)
+            for (int i = inicio; i < fim; i++) {
+                contas[i].getLock().lock();
+                travadas++;
+            }
+
+            // 2. Saldos para um array primitivo; contas já apuradas ficam com -1
+            int puladas = 0;
+            for (int k = 0; k < n; k++) {
+                ContaBancaria conta = contas[inicio + k];
+                if (conta.encargosApurados(dia)) {
+                    saldos[k] = -1;
+                    puladas++;
+                } else {
+                    saldos[k] = conta.getSaldoCentavos();
+                }
+            }
+
+            // 3. Cálculo: laço sobre long[], sem objetos nem locks
+            long somaJuros = 0;
+            long somaTarifas = 0;
+            for (int k = 0; k < n; k++) {
+                long saldo = saldos[k];
+                if (saldo < 0) {
+                    continue;
+                }
+                juros[k] = calcularJuros(saldo);
+                // A tarifa nunca deixa o saldo negativo: cobra até o que houver
+                tarifas[k] = Math.min(tarifaDiariaCentavos, saldo + juros[k]);
+                somaJuros += juros[k];
+                somaTarifas += tarifas[k];
+            }
+
+            // 4. Diário (write-ahead): todas as entradas do bloco com um único lock
+            int entradas = 0;
+            for (int k = 0; k < n; k++) {
+                long id = contas[inicio + k].getId();
+                if (juros[k] > 0) {
+                    tipos[entradas] = DiarioLedger.JUROS;
+                    ids[entradas] = id;
+                    dias[entradas] = dia;
+                    valores[entradas++] = juros[k];
+                }
+                if (tarifas[k] > 0) {
+                    tipos[entradas] = DiarioLedger.TARIFA;
+                    ids[entradas] = id;
+                    dias[entradas] = dia;
+                    valores[entradas++] = tarifas[k];
+                }
+            }
+            if (diario != null) {
+                diario.anexarLote(tipos, ids, dias, valores, entradas, instante);
+            }
+
+            // 5. Aplica nos saldos
+            for (int k = 0; k < n; k++) {
+                if (saldos[k] < 0) {
+                    continue;
+                }
+                ContaBancaria conta = contas[inicio + k];
+                if (juros[k] > 0) {
+                    conta.creditar(juros[k], HistoricoConta.JUROS, 0, instante);
+                }
+                if (tarifas[k] > 0) {
+                    conta.debitarSemValidar(tarifas[k], HistoricoConta.TARIFA, 0, instante);
+                }
+                conta.marcarEncargosApurados(dia);
+            }
+
+            totais.apuradas.add(n - puladas);
+            totais.puladas.add(puladas);
+            totais.juros.add(somaJuros);
+            totais.tarifas.add(somaTarifas);
+        } finally {
+            for (int i = inicio + travadas - 1; i >= inicio; i--) {
+                contas[i].getLock().unlock();
+            }
+        }
+    }
+
+    private static final class Totais {
+        final LongAdder apuradas = new LongAdder();
+        final LongAdder puladas = new LongAdder();
+        final LongAdder juros = new LongAdder();
+        final LongAdder tarifas = new LongAdder();
+    }
+
+    /**
+     * 📋 Resultado da apuração (contas apuradas, já apuradas antes, totais em centavos)
+     */
+    static final class Resumo {
+        private final long apuradas;
+        private final long puladas;
+        private final long jurosCentavos;
+        private final long tarifasCentavos;
+
+        Resumo(long apuradas, long puladas, long jurosCentavos, long tarifasCentavos) {
+            this.apuradas = apuradas;
+            this.puladas = puladas;
+            this.jurosCentavos = jurosCentavos;
+            this.tarifasCentavos = tarifasCentavos;
+        }
+
+        public long getApuradas() { return apuradas; }
+        public long getPuladas() { return puladas; }
+        public long getJurosCentavos() { return jurosCentavos; }
+        public long getTarifasCentavos() { return tarifasCentavos; }
+
+        @Override
+        public String toString() {
+            StringBuilder texto = new StringBuilder(96).append("Encargos: ").append(apuradas)
+                .append(" contas | ").append(puladas).append(" já apuradas | juros R$ ");
+            Dinheiro.anexar(texto, jurosCentavos).append(" | tarifas R$ ");
+            return Dinheiro.anexar(texto, tarifasCentavos).toString();
+        }
+    }
+}
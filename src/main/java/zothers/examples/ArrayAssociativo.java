@@ -0,0 +1,291 @@
+package main.java.zothers.examples;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 🗝️ ARRAY ASSOCIATIVO: Map<String, Object> compacto, na ordem de inserção (como PHP)
+ *
+ * PHP: $usuario = ["nome" => "João", "idade" => 30]; // ordenado e compacto (packed/hash)
+ * Java: new ArrayAssociativo() em vez de new HashMap<>()
+ *
+ * HashMap cria um objeto Node (32 bytes) por entrada, mais a tabela e o próprio
+ * mapa: um mapa de 4 entradas passa de 250 bytes e não guarda a ordem.
+ * Aqui as entradas ficam num único Object[] [chave0, valor0, chave1, valor1, ...]:
+ * - Até 8 entradas: sem índice nenhum, busca linear (compara hashCode, que a
+ *   String guarda em cache, antes do equals). ~90 bytes para 4 entradas.
+ * - Acima de 8: índice de endereçamento aberto (int[] slot → posição), sondagem
+ *   linear, ocupação máxima de 50%. A ordem continua a do Object[].
+ *
+ * Não é thread-safe (como HashMap). Chaves null não são aceitas; valores null sim.
+ * Para mapas grandes fora do heap (não varridos pelo GC): foraDoHeap().
+ */
+final class ArrayAssociativo extends AbstractMap<String, Object> {
+    static final int LIMITE_INLINE = 8;
+    private static final Object REMOVIDO = new Object(); // Lápide no Object[] (só no modo indexado)
+
+    private Object[] entradas; // null até o primeiro put
+    private int[] indice;      // null no modo inline; slot → posição + 1 (0 = vazio)
+    private int usadas;        // Posições usadas no Object[] (inclui removidas no modo indexado)
+    private int tamanho;
+    private int modificacoes;  // Para os iteradores detectarem mudança estrutural
+
+    public ArrayAssociativo() {
+    }
+
+    /**
+     * Mapa fora do heap para valores escalares (String, Integer, Long, Double, Boolean, null)
+     */
+    static ArrayAssociativoOffHeap foraDoHeap(int bytesIniciais) {
+        return new ArrayAssociativoOffHeap(bytesIniciais);
+    }
+
+    @Override
+    public int size() {
+        return tamanho;
+    }
+
+    @Override
+    public boolean containsKey(Object chave) {
+        return chave instanceof String && posicao((String) chave) >= 0;
+    }
+
+    @Override
+    public Object get(Object chave) {
+        if (!(chave instanceof String)) {
+            return null;
+        }
+        int p = posicao((String) chave);
+        return p < 0 ? null : entradas[2 * p + 1];
+    }
+
+    @Override
+    public Object put(String chave, Object valor) {
+        Objects.requireNonNull(chave, "Chave não pode ser null");
+        int p = posicao(chave);
+        if (p >= 0) { // Atualizar não muda a posição (igual ao PHP)
+            Object anterior = entradas[2 * p + 1];
+            entradas[2 * p + 1] = valor;
+            return anterior;
+        }
+        reservar();
+        p = usadas++;
+        entradas[2 * p] = chave;
+        entradas[2 * p + 1] = valor;
+        if (indice != null) {
+            indexar(chave.hashCode(), p);
+        }
+        tamanho++;
+        modificacoes++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object chave) {
+        if (!(chave instanceof String)) {
+            return null;
+        }
+        int p = posicao((String) chave);
+        return p < 0 ? null : removerPosicao(p);
+    }
+
+    @Override
+    public void clear() {
+        entradas = null;
+        indice = null;
+        usadas = 0;
+        tamanho = 0;
+        modificacoes++;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return tamanho;
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterador();
+            }
+        };
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    /**
+     * Posição da chave no Object[] (-1 se não existe)
+     */
+    private int posicao(String chave) {
+        int hash = chave.hashCode();
+        if (indice == null) {
+            for (int p = 0; p < usadas; p++) {
+                Object existente = entradas[2 * p];
+                if (existente == chave || (existente.hashCode() == hash && existente.equals(chave))) {
+                    return p;
+                }
+            }
+            return -1;
+        }
+        int mascara = indice.length - 1;
+        for (int slot = slot(hash, mascara); indice[slot] != 0; slot = (slot + 1) & mascara) {
+            int p = indice[slot] - 1;
+            Object existente = entradas[2 * p];
+            if (existente == chave || (existente.hashCode() == hash && existente.equals(chave))) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    private Object removerPosicao(int p) {
+        Object anterior = entradas[2 * p + 1];
+        if (indice == null) {
+            // Inline: fecha o buraco puxando as seguintes (mantém a ordem, sem lápides)
+            System.arraycopy(entradas, 2 * p + 2, entradas, 2 * p, 2 * (usadas - p - 1));
+            usadas--;
+            entradas[2 * usadas] = null;
+            entradas[2 * usadas + 1] = null;
+        } else {
+            desindexar(((String) entradas[2 * p]).hashCode(), p);
+            entradas[2 * p] = REMOVIDO;
+            entradas[2 * p + 1] = null;
+        }
+        tamanho--;
+        modificacoes++;
+        return anterior;
+    }
+
+    /**
+     * Garante espaço para mais uma entrada no fim do Object[]
+     */
+    private void reservar() {
+        if (entradas == null) {
+            entradas = new Object[2 * 4];
+            return;
+        }
+        if (2 * usadas < entradas.length) {
+            return;
+        }
+        if (indice == null && usadas < LIMITE_INLINE) {
+            entradas = Arrays.copyOf(entradas, 2 * LIMITE_INLINE);
+            return;
+        }
+        // Modo indexado: compacta se metade são lápides, senão dobra
+        int capacidade = tamanho * 2 <= usadas && indice != null ? usadas : usadas * 2;
+        Object[] novas = new Object[2 * capacidade];
+        int n = 0;
+        for (int p = 0; p < usadas; p++) {
+            if (entradas[2 * p] != REMOVIDO) {
+                novas[2 * n] = entradas[2 * p];
+                novas[2 * n + 1] = entradas[2 * p + 1];
+                n++;
+            }
+        }
+        entradas = novas;
+        usadas = n;
+        indice = new int[Integer.highestOneBit(capacidade * 2 - 1) << 1];
+        for (int p = 0; p < n; p++) {
+            indexar(entradas[2 * p].hashCode(), p);
+        }
+    }
+
+    private void indexar(int hash, int p) {
+        int mascara = indice.length - 1;
+        int slot = slot(hash, mascara);
+        while (indice[slot] != 0) {
+            slot = (slot + 1) & mascara;
+        }
+        indice[slot] = p + 1;
+    }
+
+    /**
+     * Tira a posição do índice com backward shift (sem lápides no int[])
+     */
+    private void desindexar(int hash, int p) {
+        int mascara = indice.length - 1;
+        int slot = slot(hash, mascara);
+        while (indice[slot] != p + 1) {
+            slot = (slot + 1) & mascara;
+        }
+        int buraco = slot;
+        int atual = (slot + 1) & mascara;
+        while (indice[atual] != 0) {
+            int ideal = slot(entradas[2 * (indice[atual] - 1)].hashCode(), mascara);
+            if (((atual - ideal) & mascara) >= ((atual - buraco) & mascara)) {
+                indice[buraco] = indice[atual];
+                buraco = atual;
+            }
+            atual = (atual + 1) & mascara;
+        }
+        indice[buraco] = 0;
+    }
+
+    private static int slot(int hash, int mascara) {
+        // hashCode de chaves parecidas é quase sequencial: multiplica e usa os bits altos
+        return (hash * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(mascara);
+    }
+
+    /**
+     * Percorre na ordem de inserção, pulando lápides
+     */
+    private final class Iterador implements Iterator<Entry<String, Object>> {
+        private int proxima;
+        private int ultima = -1;
+        private int esperado = modificacoes;
+
+        @Override
+        public boolean hasNext() {
+            while (proxima < usadas && entradas[2 * proxima] == REMOVIDO) {
+                proxima++;
+            }
+            return proxima < usadas;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (esperado != modificacoes) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ultima = proxima++;
+            int p = ultima;
+            return new SimpleEntry<>((String) entradas[2 * p], entradas[2 * p + 1]) {
+                @Override
+                public Object setValue(Object valor) {
+                    entradas[2 * p + 1] = valor;
+                    return super.setValue(valor);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (ultima < 0) {
+                throw new IllegalStateException();
+            }
+            if (esperado != modificacoes) {
+                throw new ConcurrentModificationException();
+            }
+            boolean inline = indice == null;
+            removerPosicao(ultima);
+            if (inline) {
+                proxima = ultima; // A seguinte foi puxada para esta posição
+            }
+            ultima = -1;
+            esperado = modificacoes;
+        }
+    }
+}
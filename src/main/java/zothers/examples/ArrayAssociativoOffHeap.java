@@ -0,0 +1,395 @@
+package main.java.zothers.examples;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 📦 ARRAY ASSOCIATIVO FORA DO HEAP: chaves e valores em memória nativa
+ *
+ * PHP: (não tem: tudo vive no heap do processo)
+ * Java: ArrayAssociativo.foraDoHeap(1 << 20) para mapas grandes e duradouros
+ *
+ * Os registros ficam num ByteBuffer direto, fora do heap: o GC não percorre
+ * milhões de Strings/Integers, só vê um objeto de buffer. No heap ficam só
+ * dois int[] (ordem de inserção e índice de endereçamento aberto).
+ *
+ * Registro: [hash:4] [bytesChave:4] [chave UTF-8] [tipo:1] [valor]
+ * Valores aceitos: null, String, Integer, Long, Double, Boolean (escalares do
+ * PHP). get() decodifica (cria o objeto) a cada chamada: é o preço de estar
+ * fora do heap. A memória nativa é liberada quando o mapa for coletado.
+ *
+ * (MemorySegment seria a API natural, mas no Java 17 ainda é incubadora;
+ * ByteBuffer.allocateDirect dá o mesmo layout com API estável.)
+ */
+final class ArrayAssociativoOffHeap extends AbstractMap<String, Object> {
+    private static final byte NULO = 0;
+    private static final byte TEXTO = 1;
+    private static final byte INTEIRO = 2;
+    private static final byte LONGO = 3;
+    private static final byte DECIMAL = 4;
+    private static final byte BOOLEANO = 5;
+    private static final int MAXIMO_BYTES = Integer.MAX_VALUE - 8; // Maior buffer que a JVM costuma aceitar
+
+    private ByteBuffer dados;
+    private int fim;             // Próximo byte livre em dados
+    private int bytesMortos;     // Registros substituídos ou removidos (recuperados na compactação)
+    private int[] ordem = new int[16]; // Posição de inserção → offset do registro (-1 = removido)
+    private int usadas;
+    private int[] indice = new int[32]; // slot → posição + 1 (0 = vazio)
+    private int tamanho;
+    private int modificacoes;
+
+    ArrayAssociativoOffHeap(int bytesIniciais) {
+        dados = ByteBuffer.allocateDirect(Math.max(64, bytesIniciais));
+    }
+
+    @Override
+    public int size() {
+        return tamanho;
+    }
+
+    @Override
+    public boolean containsKey(Object chave) {
+        return chave instanceof String && posicao((String) chave, utf8((String) chave)) >= 0;
+    }
+
+    @Override
+    public Object get(Object chave) {
+        if (!(chave instanceof String)) {
+            return null;
+        }
+        int p = posicao((String) chave, utf8((String) chave));
+        return p < 0 ? null : lerValor(ordem[p]);
+    }
+
+    @Override
+    public Object put(String chave, Object valor) {
+        Objects.requireNonNull(chave, "Chave não pode ser null");
+        byte[] bytesChave = utf8(chave);
+        byte[] texto = valor instanceof String ? utf8((String) valor) : null;
+        reservarBytes(4 + 4 + bytesChave.length + 1 + tamanhoValor(valor, texto));
+        int p = posicao(chave, bytesChave); // Depois de reservar: a compactação muda as posições
+        if (p >= 0) {
+            Object anterior = lerValor(ordem[p]);
+            bytesMortos += tamanhoRegistro(ordem[p]);
+            ordem[p] = gravar(chave.hashCode(), bytesChave, valor, texto);
+            return anterior; // Mesma posição na ordem (igual ao PHP)
+        }
+        if (usadas == ordem.length) {
+            reservarPosicoes();
+        }
+        p = usadas++;
+        ordem[p] = gravar(chave.hashCode(), bytesChave, valor, texto);
+        indexar(chave.hashCode(), p);
+        tamanho++;
+        modificacoes++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object chave) {
+        if (!(chave instanceof String)) {
+            return null;
+        }
+        int p = posicao((String) chave, utf8((String) chave));
+        return p < 0 ? null : removerPosicao(p);
+    }
+
+    @Override
+    public void clear() {
+        fim = 0;
+        bytesMortos = 0;
+        usadas = 0;
+        tamanho = 0;
+        Arrays.fill(indice, 0);
+        modificacoes++;
+    }
+
+    /**
+     * Bytes ocupados fora do heap (inclui registros mortos ainda não compactados)
+     */
+    int getBytesUsados() {
+        return fim;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return tamanho;
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterador();
+            }
+        };
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private int posicao(String chave, byte[] bytesChave) {
+        int hash = chave.hashCode();
+        int mascara = indice.length - 1;
+        for (int slot = slot(hash, mascara); indice[slot] != 0; slot = (slot + 1) & mascara) {
+            int p = indice[slot] - 1;
+            if (chaveIgual(ordem[p], hash, bytesChave)) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    private boolean chaveIgual(int offset, int hash, byte[] bytesChave) {
+        if (dados.getInt(offset) != hash || dados.getInt(offset + 4) != bytesChave.length) {
+            return false;
+        }
+        int inicio = offset + 8;
+        for (int i = 0; i < bytesChave.length; i++) {
+            if (dados.get(inicio + i) != bytesChave[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object removerPosicao(int p) {
+        int offset = ordem[p];
+        Object anterior = lerValor(offset);
+        desindexar(dados.getInt(offset), p);
+        bytesMortos += tamanhoRegistro(offset);
+        ordem[p] = -1;
+        tamanho--;
+        modificacoes++;
+        return anterior;
+    }
+
+    private int gravar(int hash, byte[] bytesChave, Object valor, byte[] texto) {
+        int offset = fim;
+        dados.position(offset);
+        dados.putInt(hash).putInt(bytesChave.length).put(bytesChave);
+        if (valor == null) {
+            dados.put(NULO);
+        } else if (texto != null) {
+            dados.put(TEXTO).putInt(texto.length).put(texto);
+        } else if (valor instanceof Integer) {
+            dados.put(INTEIRO).putInt((Integer) valor);
+        } else if (valor instanceof Long) {
+            dados.put(LONGO).putLong((Long) valor);
+        } else if (valor instanceof Double) {
+            dados.put(DECIMAL).putDouble((Double) valor);
+        } else {
+            dados.put(BOOLEANO).put((byte) ((Boolean) valor ? 1 : 0));
+        }
+        fim = dados.position();
+        return offset;
+    }
+
+    private Object lerValor(int offset) {
+        int posicaoValor = offset + 8 + dados.getInt(offset + 4);
+        int inicio = posicaoValor + 1;
+        switch (dados.get(posicaoValor)) {
+            case TEXTO -> {
+                byte[] texto = new byte[dados.getInt(inicio)];
+                dados.get(inicio + 4, texto);
+                return new String(texto, StandardCharsets.UTF_8);
+            }
+            case INTEIRO -> { return dados.getInt(inicio); }
+            case LONGO -> { return dados.getLong(inicio); }
+            case DECIMAL -> { return dados.getDouble(inicio); }
+            case BOOLEANO -> { return dados.get(inicio) != 0; }
+            default -> { return null; }
+        }
+    }
+
+    private String lerChave(int offset) {
+        byte[] chave = new byte[dados.getInt(offset + 4)];
+        dados.get(offset + 8, chave);
+        return new String(chave, StandardCharsets.UTF_8);
+    }
+
+    private int tamanhoRegistro(int offset) {
+        int posicaoValor = offset + 8 + dados.getInt(offset + 4);
+        int valor = switch (dados.get(posicaoValor)) {
+            case TEXTO -> 4 + dados.getInt(posicaoValor + 1);
+            case INTEIRO -> 4;
+            case LONGO, DECIMAL -> 8;
+            case BOOLEANO -> 1;
+            default -> 0;
+        };
+        return posicaoValor + 1 + valor - offset;
+    }
+
+    private static int tamanhoValor(Object valor, byte[] texto) {
+        if (valor == null) {
+            return 0;
+        }
+        if (texto != null) {
+            return 4 + texto.length;
+        }
+        if (valor instanceof Integer) {
+            return 4;
+        }
+        if (valor instanceof Long || valor instanceof Double) {
+            return 8;
+        }
+        if (valor instanceof Boolean) {
+            return 1;
+        }
+        throw new IllegalArgumentException("Fora do heap só valores escalares (String, Integer, Long, "
+            + "Double, Boolean, null): " + valor.getClass().getSimpleName());
+    }
+
+    /**
+     * Garante n bytes livres: compacta se metade está morta, senão dobra o buffer
+     */
+    private void reservarBytes(int n) {
+        if ((long) fim + n <= dados.capacity()) {
+            return;
+        }
+        long vivos = fim - bytesMortos;
+        long capacidade = dados.capacity();
+        while (vivos + n > capacidade - (capacidade >> 2)) {
+            capacidade *= 2; // Depois da compactação, pelo menos 1/4 livre
+            if (capacidade > MAXIMO_BYTES) {
+                if (vivos + n > MAXIMO_BYTES) {
+                    throw new IllegalStateException("Array fora do heap cheio: " + vivos + " bytes vivos + " + n
+                        + " não cabem em um ByteBuffer");
+                }
+                capacidade = MAXIMO_BYTES; // No teto, basta caber
+                break;
+            }
+        }
+        ByteBuffer novo = ByteBuffer.allocateDirect((int) capacidade);
+        int novoFim = 0;
+        int n2 = 0;
+        for (int p = 0; p < usadas; p++) {
+            int offset = ordem[p];
+            if (offset < 0) {
+                continue;
+            }
+            int tamanhoRegistro = tamanhoRegistro(offset);
+            novo.put(novoFim, dados, offset, tamanhoRegistro);
+            ordem[n2++] = novoFim;
+            novoFim += tamanhoRegistro;
+        }
+        dados = novo;
+        fim = novoFim;
+        bytesMortos = 0;
+        usadas = n2;
+        reconstruirIndice(indice.length);
+        modificacoes++;
+    }
+
+    private void reservarPosicoes() {
+        if (tamanho * 2 <= usadas) { // Metade são removidas: só compacta a ordem
+            int n = 0;
+            for (int p = 0; p < usadas; p++) {
+                if (ordem[p] >= 0) {
+                    ordem[n++] = ordem[p];
+                }
+            }
+            usadas = n;
+            reconstruirIndice(indice.length);
+        } else {
+            ordem = Arrays.copyOf(ordem, ordem.length * 2);
+            reconstruirIndice(ordem.length * 2);
+        }
+    }
+
+    private void reconstruirIndice(int tamanhoIndice) {
+        indice = new int[tamanhoIndice];
+        for (int p = 0; p < usadas; p++) {
+            if (ordem[p] >= 0) {
+                indexar(dados.getInt(ordem[p]), p);
+            }
+        }
+    }
+
+    private void indexar(int hash, int p) {
+        int mascara = indice.length - 1;
+        int slot = slot(hash, mascara);
+        while (indice[slot] != 0) {
+            slot = (slot + 1) & mascara;
+        }
+        indice[slot] = p + 1;
+    }
+
+    private void desindexar(int hash, int p) {
+        int mascara = indice.length - 1;
+        int slot = slot(hash, mascara);
+        while (indice[slot] != p + 1) {
+            slot = (slot + 1) & mascara;
+        }
+        int buraco = slot;
+        int atual = (slot + 1) & mascara;
+        while (indice[atual] != 0) {
+            int ideal = slot(dados.getInt(ordem[indice[atual] - 1]), mascara);
+            if (((atual - ideal) & mascara) >= ((atual - buraco) & mascara)) {
+                indice[buraco] = indice[atual];
+                buraco = atual;
+            }
+            atual = (atual + 1) & mascara;
+        }
+        indice[buraco] = 0;
+    }
+
+    private static int slot(int hash, int mascara) {
+        return (hash * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(mascara);
+    }
+
+    private static byte[] utf8(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private final class Iterador implements Iterator<Entry<String, Object>> {
+        private int proxima;
+        private int ultima = -1;
+        private int esperado = modificacoes;
+
+        @Override
+        public boolean hasNext() {
+            while (proxima < usadas && ordem[proxima] < 0) {
+                proxima++;
+            }
+            return proxima < usadas;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (esperado != modificacoes) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ultima = proxima++;
+            int offset = ordem[ultima];
+            return new SimpleImmutableEntry<>(lerChave(offset), lerValor(offset));
+        }
+
+        @Override
+        public void remove() {
+            if (ultima < 0) {
+                throw new IllegalStateException();
+            }
+            if (esperado != modificacoes) {
+                throw new ConcurrentModificationException();
+            }
+            removerPosicao(ultima);
+            ultima = -1;
+            esperado = modificacoes;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package main.java.zothers.examples;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+/**
+ * 📊 COLETOR DE ESTATÍSTICAS: Várias agregações numa única passada
+ *
+ * PHP: SELECT COUNT(*), SUM(idade), MIN(idade), MAX(idade), AVG(idade),
+ *             SUM(ativo = 1), SUM(idade > 25) FROM usuarios
+ * Java: usuarios.stream().collect(ColetorEstatisticas.de(...).contarSe(...))
+ *
+ * Sem ele, cada average()/max()/count() percorre a lista inteira de novo.
+ * Aqui cada elemento é lido uma vez e alimenta tudo ao mesmo tempo.
+ *
+ * Funciona com parallelStream(): cada thread acumula no seu Parcial e os
+ * parciais são somados no final (combiner). A configuração é imutável:
+ * o mesmo coletor pode ser reusado por vários painéis/threads.
+ */
+final class ColetorEstatisticas<T> implements Collector<T, ColetorEstatisticas.Parcial, ColetorEstatisticas.Resultado> {
+    private final ToIntFunction<? super T> valor;
+    private final String[] nomesCondicoes;
+    private final List<Predicate<? super T>> condicoes; // Imutável, na ordem de nomesCondicoes
+
+    private ColetorEstatisticas(ToIntFunction<? super T> valor, String[] nomesCondicoes,
+                                List<Predicate<? super T>> condicoes) {
+        this.valor = valor;
+        this.nomesCondicoes = nomesCondicoes;
+        this.condicoes = condicoes;
+    }
+
+    /**
+     * @param valor campo numérico agregado (quantidade, soma, mínimo, máximo, média)
+     */
+    static <T> ColetorEstatisticas<T> de(ToIntFunction<? super T> valor) {
+        return new ColetorEstatisticas<>(valor, new String[0], List.of());
+    }
+
+    /**
+     * Novo coletor com mais uma contagem condicional (como SUM(CASE WHEN ... THEN 1 END))
+     */
+    ColetorEstatisticas<T> contarSe(String nome, Predicate<? super T> condicao) {
+        if (Arrays.asList(nomesCondicoes).contains(nome)) {
+            throw new IllegalArgumentException("Condição duplicada: " + nome);
+        }
+        int n = nomesCondicoes.length;
+        String[] nomes = Arrays.copyOf(nomesCondicoes, n + 1);
+        nomes[n] = nome;
+        List<Predicate<? super T>> novas = new ArrayList<>(condicoes);
+        novas.add(condicao);
+        return new ColetorEstatisticas<>(valor, nomes, List.copyOf(novas));
+    }
+
+    // ==========================================
+    // Collector
+    // ==========================================
+
+    @Override
+    public Supplier<Parcial> supplier() {
+        return () -> new Parcial(condicoes.size());
+    }
+
+    @Override
+    public BiConsumer<Parcial, T> accumulator() {
+        return (parcial, elemento) -> {
+            parcial.resumo.accept(valor.applyAsInt(elemento));
+            for (int i = 0; i < condicoes.size(); i++) {
+                if (condicoes.get(i).test(elemento)) {
+                    parcial.contagens[i]++;
+                }
+            }
+        };
+    }
+
+    @Override
+    public BinaryOperator<Parcial> combiner() {
+        return (a, b) -> {
+            a.resumo.combine(b.resumo);
+            for (int i = 0; i < a.contagens.length; i++) {
+                a.contagens[i] += b.contagens[i];
+            }
+            return a;
+        };
+    }
+
+    @Override
+    public Function<Parcial, Resultado> finisher() {
+        return parcial -> new Resultado(parcial.resumo, nomesCondicoes, parcial.contagens);
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return EnumSet.of(Characteristics.UNORDERED); // Nenhum agregado depende da ordem
+    }
+
+    /**
+     * Estado mutável de uma thread (não compartilhado)
+     */
+    static final class Parcial {
+        private final IntSummaryStatistics resumo = new IntSummaryStatistics();
+        private final long[] contagens;
+
+        private Parcial(int condicoes) {
+            this.contagens = new long[condicoes];
+        }
+    }
+
+    /**
+     * 📋 Resultado final (imutável)
+     */
+    static final class Resultado {
+        private final IntSummaryStatistics resumo;
+        private final String[] nomesCondicoes;
+        private final long[] contagens;
+
+        private Resultado(IntSummaryStatistics resumo, String[] nomesCondicoes, long[] contagens) {
+            this.resumo = resumo;
+            this.nomesCondicoes = nomesCondicoes;
+            this.contagens = contagens;
+        }
+
+        long getQuantidade() { return resumo.getCount(); }
+        long getSoma() { return resumo.getSum(); }
+
+        OptionalInt getMinimo() {
+            return resumo.getCount() == 0 ? OptionalInt.empty() : OptionalInt.of(resumo.getMin());
+        }
+
+        OptionalInt getMaximo() {
+            return resumo.getCount() == 0 ? OptionalInt.empty() : OptionalInt.of(resumo.getMax());
+        }
+
+        OptionalDouble getMedia() {
+            return resumo.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(resumo.getAverage());
+        }
+
+        /**
+         * Quantos elementos passaram na condição registrada com esse nome
+         */
+        long getContagem(String nome) {
+            for (int i = 0; i < nomesCondicoes.length; i++) {
+                if (nomesCondicoes[i].equals(nome)) {
+                    return contagens[i];
+                }
+            }
+            throw new IllegalArgumentException("Condição não registrada: " + nome);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder texto = new StringBuilder("Estatísticas{quantidade=").append(resumo.getCount())
+                .append(", soma=").append(resumo.getSum());
+            if (resumo.getCount() > 0) {
+                texto.append(", min=").append(resumo.getMin()).append(", max=").append(resumo.getMax())
+                    .append(", media=").append(String.format("%.1f", resumo.getAverage()));
+            }
+            for (int i = 0; i < nomesCondicoes.length; i++) {
+                texto.append(", ").append(nomesCondicoes[i]).append('=').append(contagens[i]);
+            }
+            return texto.append('}').toString();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package main.java.zothers.examples;
 
+import main.java.zothers.Utils.IntList;
+
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -13,6 +15,19 @@ import java.util.stream.Collectors;
  */
 public class CollectionsExample {
 
+    // Esquema dos usuários: nomes resolvidos uma vez, cada acesso vira array[slot]
+    private static final Esquema USUARIO = Esquema.construtor("usuario")
+        .inteiro("id").texto("nome").inteiro("idade").booleano("ativo").texto("email")
+        .construir();
+    private static final Esquema.CampoTexto NOME = USUARIO.campoTexto("nome");
+    private static final Esquema.CampoInt IDADE = USUARIO.campoInt("idade");
+    private static final Esquema.CampoBoolean ATIVO = USUARIO.campoBoolean("ativo");
+    
+    // Coletor reutilizável: idade (quantidade/soma/mín/máx/média) + contagens condicionais
+    private static final ColetorEstatisticas<Linha> ESTATISTICAS_IDADE = ColetorEstatisticas.<Linha>de(u -> u.getInt(IDADE))
+        .contarSe("ativos", u -> u.getBoolean(ATIVO))
+        .contarSe("maiores de 25", u -> u.getInt(IDADE) > 25);
+
     public static void main(String[] args) {
         System.out.println("========================================");
         System.out.println("📦 COLLECTIONS: DO PHP PARA JAVA");
@@ -84,8 +99,8 @@ public class CollectionsExample {
         System.out.println("🗝️ 2. MAPAS (PHP array associativo)");
         System.out.println("PHP: $usuario = [\"nome\" => \"João\", \"idade\" => 30];");
         
-        // Criando mapa mutável
-        Map<String, Object> usuario = new HashMap<>();
+        // Criando mapa mutável (compacto e na ordem de inserção, como o array do PHP)
+        Map<String, Object> usuario = new ArrayAssociativo();
         usuario.put("nome", "João");
         usuario.put("idade", 30);
         usuario.put("ativo", true);
@@ -105,6 +120,11 @@ public class CollectionsExample {
         Set<String> chaves = usuario.keySet();
         System.out.println("Chaves: " + chaves + " (como PHP array_keys($usuario))");
         
+        // Mapas grandes e duradouros podem morar fora do heap (valores escalares)
+        Map<String, Object> configuracao = ArrayAssociativo.foraDoHeap(4096);
+        configuracao.putAll(usuario);
+        System.out.println("Fora do heap: " + configuracao);
+        
         System.out.println();
     }
 
@@ -168,6 +188,22 @@ public class CollectionsExample {
         
         System.out.println("Java Streams - Soma: " + soma);
         
+        // ==========================================
+        // PRIMITIVOS (sem Integer: int[] + pipeline fundido)
+        // ==========================================
+        System.out.println("\n⚡ PRIMITIVOS (IntList):");
+        System.out.println("List<Integer> boxa cada número; IntList guarda int[] e não aloca por elemento");
+        
+        IntList numerosPrimitivos = IntList.range(1, 11);
+        IntList filtradoEDobradoPrimitivo = numerosPrimitivos.pipeline()
+            .filter(n -> n > 5)
+            .map(n -> n * 2)
+            .toList();
+        int somaPrimitiva = numerosPrimitivos.pipeline().reduce(0, (acc, n) -> acc + n);
+        
+        System.out.println("IntList (filtrar + mapear): " + filtradoEDobradoPrimitivo);
+        System.out.println("IntList - Soma: " + somaPrimitiva + " | em paralelo: " + numerosPrimitivos.pipeline().parallel().sum());
+        
         System.out.println();
     }
 
@@ -181,22 +217,26 @@ public class CollectionsExample {
         System.out.println("🚀 4. OPERAÇÕES AVANÇADAS (Cenário Real)");
         
         // Simulando dados de usuários (como vindo de um banco ou API)
-        List<Map<String, Object>> usuarios = List.of(
+        List<Map<String, Object>> linhasBrutas = List.of(
             Map.of("id", 1, "nome", "João", "idade", 25, "ativo", true, "email", "joao@email.com"),
             Map.of("id", 2, "nome", "Maria", "idade", 30, "ativo", false, "email", "maria@email.com"),
             Map.of("id", 3, "nome", "Pedro", "idade", 22, "ativo", true, "email", "pedro@email.com"),
             Map.of("id", 4, "nome", "Ana", "idade", 35, "ativo", true, "email", "ana@email.com")
         );
         
+        // Converte uma vez na entrada; daqui em diante nada de cast nem hash da chave
+        List<Linha> usuarios = USUARIO.deMapas(linhasBrutas);
+        
         System.out.println("👥 Usuários: " + usuarios.size() + " registros");
+        System.out.println("Esquema: " + USUARIO);
         
         // ==========================================
         // Filtrar usuários ativos (como WHERE ativo = true)
         // ==========================================
         System.out.println("\n✅ Usuários ativos:");
         List<String> usuariosAtivos = usuarios.stream()
-            .filter(user -> (Boolean) user.get("ativo"))
-            .map(user -> (String) user.get("nome"))
+            .filter(user -> user.getBoolean(ATIVO))
+            .map(user -> user.getTexto(NOME))
             .collect(Collectors.toList());
         
         System.out.println("PHP: array_filter($usuarios, fn($u) => $u['ativo'])");
@@ -207,8 +247,8 @@ public class CollectionsExample {
         // ==========================================
         System.out.println("\n🎂 Usuários com mais de 25 anos:");
         List<String> usuariosMaduros = usuarios.stream()
-            .filter(user -> (Integer) user.get("idade") > 25)
-            .map(user -> user.get("nome") + " (" + user.get("idade") + " anos)")
+            .filter(user -> user.getInt(IDADE) > 25)
+            .map(user -> user.getTexto(NOME) + " (" + user.getInt(IDADE) + " anos)")
             .collect(Collectors.toList());
         
         System.out.println(usuariosMaduros);
@@ -217,38 +257,39 @@ public class CollectionsExample {
         // Agrupar por status (ativo/inativo)
         // ==========================================
         System.out.println("\n📊 Agrupamento por status:");
-        Map<Boolean, List<String>> agrupadoPorStatus = usuarios.stream()
-            .collect(Collectors.groupingBy(
-                user -> (Boolean) user.get("ativo"),
-                Collectors.mapping(
-                    user -> (String) user.get("nome"),
-                    Collectors.toList()
-                )
-            ));
+        // Um bit por linha em cada grupo (nada de Boolean nem ArrayList por grupo);
+        // os nomes só são criados aqui, na hora de imprimir
+        Particao<Linha> porStatus = Particao.porBooleano(usuarios, user -> user.getBoolean(ATIVO));
+        
+        System.out.println("Ativos: " + porStatus.materializar(Particao.VERDADEIRO, user -> user.getTexto(NOME)));
+        System.out.println("Inativos: " + porStatus.materializar(Particao.FALSO, user -> user.getTexto(NOME)));
         
-        System.out.println("Ativos: " + agrupadoPorStatus.get(true));
-        System.out.println("Inativos: " + agrupadoPorStatus.get(false));
+        // Faixa etária como grupo pequeno (0: até 25, 1: 26-30, 2: 31+) e cruzamento por AND de bitmaps
+        Particao<Linha> porFaixa = Particao.de(usuarios, 3, user -> user.getInt(IDADE) <= 25 ? 0 : user.getInt(IDADE) <= 30 ? 1 : 2);
+        System.out.println("Ativos com 31+: " + porStatus.contarInterseccao(Particao.VERDADEIRO, porFaixa, 2));
         
         // ==========================================
         // Estatísticas (como SQL agregações)
         // ==========================================
         System.out.println("\n📈 Estatísticas:");
         
-        OptionalDouble idadeMedia = usuarios.stream()
-            .mapToInt(user -> (Integer) user.get("idade"))
-            .average();
-        
-        OptionalInt idadeMaxima = usuarios.stream()
-            .mapToInt(user -> (Integer) user.get("idade"))
-            .max();
-        
-        long totalAtivos = usuarios.stream()
-            .filter(user -> (Boolean) user.get("ativo"))
-            .count();
+        // Uma passada só (e funciona igual com parallelStream())
+        ColetorEstatisticas.Resultado estatisticas = usuarios.stream().collect(ESTATISTICAS_IDADE);
+        OptionalDouble idadeMedia = estatisticas.getMedia();
+        OptionalInt idadeMaxima = estatisticas.getMaximo();
+        long totalAtivos = estatisticas.getContagem("ativos");
         
+        System.out.println("PHP: SELECT AVG(idade), MAX(idade), SUM(ativo) FROM usuarios  -- uma consulta");
         System.out.println("Idade média: " + (idadeMedia.isPresent() ? String.format("%.1f", idadeMedia.getAsDouble()) : "N/A"));
         System.out.println("Idade máxima: " + (idadeMaxima.isPresent() ? idadeMaxima.getAsInt() : "N/A"));
         System.out.println("Total de ativos: " + totalAtivos);
+        System.out.println("Maiores de 25: " + estatisticas.getContagem("maiores de 25"));
+        
+        // ==========================================
+        // Código legado que espera Map<String, Object> continua funcionando
+        // ==========================================
+        Map<String, Object> comoMapa = usuarios.get(0).comoMapa();
+        System.out.println("\n🔌 Como mapa: " + comoMapa + " → nome: " + comoMapa.get("nome"));
         
         System.out.println("\n🎉 Collections dominadas! Próximo passo: OOP avançado");
     }
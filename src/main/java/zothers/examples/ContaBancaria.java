@@ -0,0 +1,398 @@
+package main.java.zothers.examples;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 💳 CONTA BANCÁRIA: Para demonstrar exceptions
+ *
+ * Thread-safe: toda alteração de saldo acontece com o lock da conta.
+ * O id (sequencial) define a ordem de travamento nas transferências e é o
+ * que o diário grava: contas recuperadas mantêm o id da execução anterior.
+ * Saldo em centavos (long): os métodos em double só convertem na entrada.
+ */
+class ContaBancaria {
+    private static final AtomicLong SEQUENCIA = new AtomicLong();
+
+    private final long id;
+    private final long abertura;   // Instante (epoch millis) em que a conta foi aberta
+    private final ReentrantLock lock = new ReentrantLock();
+    private String titular;
+    private volatile long saldo;   // Centavos; escrito só com o lock, lido sem lock
+    private DiarioLedger diario;   // Opcional: quando presente, toda operação é registrada antes
+    private HistoricoConta historico; // Opcional: eventos + snapshots para consulta no tempo
+    private PoliticaVelocidade.Janelas velocidade; // Opcional: limites de saída (saque/transferência) por janela de tempo
+    private final DiasApurados diasEncargos = new DiasApurados(); // Dias (epoch day) com juros/tarifa aplicados
+    
+    public ContaBancaria(String titular, double saldoInicial) throws UsuarioInvalidoException {
+        this(titular, Dinheiro.deReais(saldoInicial), true);
+    }
+    
+    /**
+     * Fábrica em centavos (um construtor com long seria ambíguo: new ContaBancaria("x", 100) são reais ou centavos?)
+     */
+    static ContaBancaria emCentavos(String titular, long saldoInicialCentavos) throws UsuarioInvalidoException {
+        return new ContaBancaria(titular, saldoInicialCentavos, true);
+    }
+    
+    private ContaBancaria(String titular, long saldoInicialCentavos, boolean emCentavos) throws UsuarioInvalidoException {
+        // Validação que pode lançar exception
+        if (titular == null || titular.trim().isEmpty()) {
+            throw new UsuarioInvalidoException("titular", titular, "Nome do titular é obrigatório");
+        }
+        if (saldoInicialCentavos < 0) {
+            throw new UsuarioInvalidoException("saldoInicial", Dinheiro.formatar(saldoInicialCentavos), 
+                                               "Saldo inicial não pode ser negativo");
+        }
+        
+        this.id = SEQUENCIA.incrementAndGet();
+        this.abertura = System.currentTimeMillis();
+        this.titular = titular;
+        this.saldo = saldoInicialCentavos;
+    }
+    
+    private ContaBancaria(long id, String titular, long saldoInicialCentavos, long abertura) {
+        this.id = id;
+        this.abertura = abertura;
+        this.titular = titular;
+        this.saldo = saldoInicialCentavos;
+    }
+    
+    /**
+     * 🔁 Recria a conta com os dados da ABERTURA no diário (já validados quando gravados).
+     * A sequência de ids passa a continuar depois deste. Com histórico, ele
+     * começa no instante original da abertura e recebe o replay inteiro.
+     */
+    static ContaBancaria restaurar(long id, String titular, long saldoInicialCentavos, long abertura,
+                                   boolean comHistorico) {
+        SEQUENCIA.accumulateAndGet(id, Math::max);
+        ContaBancaria conta = new ContaBancaria(id, titular, saldoInicialCentavos, abertura);
+        if (comHistorico) {
+            conta.historico = new HistoricoConta(saldoInicialCentavos, abertura,
+                                                 HistoricoConta.EVENTOS_POR_SNAPSHOT_PADRAO);
+        }
+        return conta;
+    }
+    
+    public void sacar(double valor) throws UsuarioInvalidoException {
+        if (!(valor > 0)) {
+            throw new UsuarioInvalidoException("valor", valor, "Valor do saque deve ser positivo");
+        }
+        sacarCentavos(Dinheiro.deReais(valor));
+    }
+    
+    public void sacarCentavos(long valor) throws UsuarioInvalidoException {
+        // Mesma regra do trySacarCentavos: saque negativo viraria depósito
+        if (valor <= 0) {
+            throw UsuarioInvalidoException.semPilha("valor", valor, "Valor do saque (centavos) deve ser positivo");
+        }
+        long saldoFinal;
+        long sequencia = 0;
+        lock.lock();
+        try {
+            verificarSaldo(valor);
+            long agora = System.currentTimeMillis();
+            int regra = violacaoVelocidade(valor, agora);
+            if (regra != PoliticaVelocidade.SEM_VIOLACAO) {
+                throw limiteVelocidadeExcedido(regra, valor);
+            }
+            if (diario != null) {
+                sequencia = diario.anexar(DiarioLedger.SAQUE, id, 0, valor, agora); // Write-ahead
+            }
+            debitarSemValidar(valor, HistoricoConta.SAQUE, 0, agora);
+            registrarVelocidade(valor, agora); // Só conta na janela o que de fato saiu
+            saldoFinal = saldo;
+        } finally {
+            lock.unlock();
+        }
+        if (diario != null) {
+            diario.aguardarDurabilidade(sequencia); // fsync fora do lock da conta
+        }
+        System.out.println(mensagemOperacao("✅ Saque realizado: R$ ", valor, saldoFinal));
+    }
+    
+    public void depositar(double valor) throws UsuarioInvalidoException {
+        if (!(valor > 0)) {
+            throw new UsuarioInvalidoException("valor", valor, "Valor do depósito deve ser positivo");
+        }
+        depositarCentavos(Dinheiro.deReais(valor));
+    }
+    
+    public void depositarCentavos(long valor) throws UsuarioInvalidoException {
+        if (valor <= 0) {
+            throw UsuarioInvalidoException.semPilha("valor", valor, "Valor do depósito (centavos) deve ser positivo");
+        }
+        long saldoFinal;
+        long sequencia = 0;
+        lock.lock();
+        try {
+            long agora = System.currentTimeMillis();
+            if (diario != null) {
+                sequencia = diario.anexar(DiarioLedger.DEPOSITO, id, 0, valor, agora);
+            }
+            creditar(valor, HistoricoConta.DEPOSITO, 0, agora);
+            saldoFinal = saldo;
+        } finally {
+            lock.unlock();
+        }
+        if (diario != null) {
+            diario.aguardarDurabilidade(sequencia);
+        }
+        System.out.println(mensagemOperacao("✅ Depósito realizado: R$ ", valor, saldoFinal));
+    }
+    
+    // ==========================================
+    // Variantes sem exception (caminho quente: só o código do resultado)
+    // ==========================================
+    
+    /**
+     * Como sacarCentavos, mas sem exception e sem imprimir nada
+     */
+    public ResultadoOperacao trySacarCentavos(long valor) {
+        if (valor <= 0) {
+            return ResultadoOperacao.VALOR_INVALIDO;
+        }
+        long sequencia = 0;
+        lock.lock();
+        try {
+            if (!temSaldo(valor)) {
+                return ResultadoOperacao.SALDO_INSUFICIENTE;
+            }
+            long agora = System.currentTimeMillis();
+            if (violacaoVelocidade(valor, agora) != PoliticaVelocidade.SEM_VIOLACAO) {
+                return ResultadoOperacao.LIMITE_VELOCIDADE;
+            }
+            if (diario != null) {
+                sequencia = diario.anexar(DiarioLedger.SAQUE, id, 0, valor, agora);
+            }
+            debitarSemValidar(valor, HistoricoConta.SAQUE, 0, agora);
+            registrarVelocidade(valor, agora);
+        } finally {
+            lock.unlock();
+        }
+        if (diario != null) {
+            diario.aguardarDurabilidade(sequencia);
+        }
+        return ResultadoOperacao.OK;
+    }
+    
+    public ResultadoOperacao tryDepositarCentavos(long valor) {
+        if (valor <= 0) {
+            return ResultadoOperacao.VALOR_INVALIDO;
+        }
+        long sequencia = 0;
+        lock.lock();
+        try {
+            long agora = System.currentTimeMillis();
+            if (diario != null) {
+                sequencia = diario.anexar(DiarioLedger.DEPOSITO, id, 0, valor, agora);
+            }
+            creditar(valor, HistoricoConta.DEPOSITO, 0, agora);
+        } finally {
+            lock.unlock();
+        }
+        if (diario != null) {
+            diario.aguardarDurabilidade(sequencia);
+        }
+        return ResultadoOperacao.OK;
+    }
+    
+    private static String mensagemOperacao(String prefixo, long valor, long saldoFinal) {
+        StringBuilder texto = new StringBuilder(64).append(prefixo);
+        Dinheiro.anexar(texto, valor).append(" (saldo: R$ ");
+        return Dinheiro.anexar(texto, saldoFinal).append(')').toString();
+    }
+    
+    // ==========================================
+    // Pernas de transferência (chamar com o lock da conta, sem I/O)
+    // ==========================================
+    
+    void verificarSaldo(long valor) {
+        if (!temSaldo(valor)) {
+            throw SaldoInsuficienteException.semPilha(saldo, valor);
+        }
+    }
+    
+    boolean temSaldo(long valor) {
+        return valor <= saldo;
+    }
+    
+    // Também usado na recuperação do diário (a entrada já foi validada quando gravada)
+    void debitarSemValidar(long valor, byte evento, long contraparte, long instante) {
+        saldo = Dinheiro.subtrair(saldo, valor);
+        if (historico != null) {
+            historico.registrar(evento, -valor, contraparte, instante);
+        }
+    }
+    
+    void creditar(long valor, byte evento, long contraparte, long instante) {
+        saldo = Dinheiro.somar(saldo, valor);
+        if (historico != null) {
+            historico.registrar(evento, valor, contraparte, instante);
+        }
+    }
+    
+    // ==========================================
+    // Antifraude (limites de velocidade em saques e transferências enviadas)
+    // ==========================================
+    
+    /**
+     * Regra violada por uma saída desse valor, ou SEM_VIOLACAO (chamar com o lock)
+     */
+    int violacaoVelocidade(long valor, long agora) {
+        return velocidade == null ? PoliticaVelocidade.SEM_VIOLACAO : velocidade.violacao(valor, agora);
+    }
+    
+    /**
+     * Conta a saída nas janelas: só depois do diário e do débito (chamar com o lock)
+     */
+    void registrarVelocidade(long valor, long agora) {
+        if (velocidade != null) {
+            velocidade.registrar(valor, agora);
+        }
+    }
+    
+    LimiteVelocidadeException limiteVelocidadeExcedido(int regra, long valor) {
+        return new LimiteVelocidadeException(velocidade.getPolitica(), regra, valor);
+    }
+    
+    /**
+     * Aplica a política às próximas saídas (null remove). Os contadores
+     * começam zerados: saídas anteriores não contam para a nova política.
+     */
+    void setPoliticaVelocidade(PoliticaVelocidade politica) {
+        lock.lock();
+        try {
+            velocidade = politica == null ? null : politica.novasJanelas();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // ==========================================
+    // Encargos diários (chamar com o lock da conta)
+    // ==========================================
+    
+    boolean encargosApurados(long dia) {
+        return diasEncargos.contem(dia);
+    }
+    
+    // Também usado na recuperação: o dia vem gravado na entrada do diário
+    void marcarEncargosApurados(long dia) {
+        diasEncargos.marcar(dia);
+    }
+    
+    // ==========================================
+    // Histórico (event sourcing)
+    // ==========================================
+    
+    /**
+     * Começa a registrar eventos a partir do saldo atual (evento de abertura).
+     * Para ter o histórico desde a abertura de uma conta do diário, recupere com histórico.
+     */
+    public void ativarHistorico() {
+        ativarHistorico(HistoricoConta.EVENTOS_POR_SNAPSHOT_PADRAO, HistoricoConta.MAXIMO_EVENTOS_PADRAO);
+    }
+    
+    /**
+     * @param maximoEventos eventos guardados; acima disso a metade mais antiga vira saldo base
+     */
+    public void ativarHistorico(int eventosPorSnapshot, int maximoEventos) {
+        lock.lock();
+        try {
+            if (historico == null) {
+                historico = new HistoricoConta(saldo, System.currentTimeMillis(), eventosPorSnapshot, maximoEventos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 🕰️ Saldo (centavos) no instante pedido (epoch millis), para auditoria
+     */
+    public long saldoEmCentavos(long instante) {
+        lock.lock();
+        try {
+            return historicoAtivo().saldoEm(instante);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Eventos entre dois instantes (inclusive), com o saldo depois de cada um
+     */
+    public void eventosEntre(long inicio, long fim, HistoricoConta.Visitante visitante) {
+        lock.lock();
+        try {
+            historicoAtivo().eventosEntre(inicio, fim, visitante);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private HistoricoConta historicoAtivo() {
+        if (historico == null) {
+            throw new IllegalStateException("Histórico não ativado para a conta " + id);
+        }
+        return historico;
+    }
+    
+    /**
+     * Passa a registrar as operações no diário, começando pela ABERTURA.
+     * Retorna a sequência dela (aguardarDurabilidade antes de expor a conta).
+     */
+    long registrarAbertura(DiarioLedger diario) {
+        lock.lock();
+        try {
+            this.diario = diario;
+            return diario.anexarAbertura(id, titular, saldo, abertura);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Conta recuperada: a ABERTURA já está no diário
+    void setDiario(DiarioLedger diario) { this.diario = diario; }
+    long getId() { return id; }
+    long getAbertura() { return abertura; }
+    ReentrantLock getLock() { return lock; }
+    
+    // Método que pode falhar ao acessar arquivo (IOException)
+    public void salvarExtrato(String nomeArquivo) throws IOException {
+        // Curinga no nome costuma ser erro de quem montou o caminho
+        if (nomeArquivo.contains("*")) {
+            throw new IOException("Nome de arquivo inválido: " + nomeArquivo);
+        }
+        Path arquivo;
+        try {
+            arquivo = Path.of(nomeArquivo);
+        } catch (InvalidPathException e) {
+            throw new IOException("Nome de arquivo inválido: " + nomeArquivo, e);
+        }
+        salvarExtrato(arquivo, EscritorExtrato.Formato.CSV);
+        System.out.println("📄 Extrato salvo em: " + nomeArquivo);
+    }
+    
+    /**
+     * Grava o extrato no formato pedido e retorna quantos bytes foram escritos
+     */
+    public long salvarExtrato(Path arquivo, EscritorExtrato.Formato formato) throws IOException {
+        if (arquivo.getFileName().toString().contains("*")) {
+            throw new IOException("Nome de arquivo inválido: " + arquivo.getFileName());
+        }
+        
+        EscritorExtrato escritor = EscritorExtrato.abrir(arquivo, formato);
+        try (escritor) { // Fecha (e grava o buffer) mesmo se escrever() falhar
+            escritor.escrever(this);
+        }
+        return escritor.getBytesGravados();
+    }
+    
+    public String getTitular() { return titular; }
+    public long getSaldoCentavos() { return saldo; }
+}
@@ -0,0 +1,534 @@
+package main.java.zothers.examples;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * 📒 DIÁRIO (WRITE-AHEAD LOG): Toda operação vai para o disco antes de valer
+ *
+ * PHP: o MySQL/InnoDB faz isso por você (redo log + innodb_flush_log_at_trx_commit)
+ * Java: aqui o "banco" é a memória, então o diário é nosso
+ *
+ * Regra do write-ahead: a entrada é anexada ANTES do saldo mudar, e quem
+ * chamou só recebe o OK depois do fsync. Se a JVM cair, recuperar() refaz
+ * tudo que foi confirmado.
+ *
+ * Group commit: fsync é caro (milissegundos). Enquanto uma thread grava e
+ * faz fsync, as outras continuam anexando no buffer; a próxima gravação leva
+ * todas de uma vez. Com 100 threads, um fsync confirma dezenas de operações.
+ * Quem anexa nunca faz I/O (costuma estar com locks de contas): buffer
+ * enchendo é problema da thread gravadora, que o esvazia em segundo plano.
+ *
+ * Arquivo: [magia:4] [versão:4] e depois as entradas, em ordem de sequência
+ * Entrada: [sequencia:8] [instante:8] [tipo:1] [conta:8] [contraparte:8] [centavos:8]
+ *          [tamanhoDados:2] [dados] [crc32c:4]
+ * Só a ABERTURA tem dados (o titular em UTF-8): as contas são recriadas com
+ * o mesmo id, o mesmo titular e o saldo inicial.
+ *
+ * Na leitura, uma entrada incompleta ou com CRC inválido é escrita
+ * interrompida pela queda se o que vem depois dela cabe num único lote
+ * (um write de no máximo um buffer, nunca confirmado por fsync) mais uma
+ * cauda de zeros (o sistema de arquivos aumentou o arquivo, mas os dados
+ * não chegaram): tudo isso é descartado. Dados além de um lote depois do
+ * defeito são corrupção, e abrir() falha em vez de apagar o resto.
+ */
+class DiarioLedger implements AutoCloseable {
+    static final byte DEPOSITO = 1;
+    static final byte SAQUE = 2;
+    static final byte TRANSFERENCIA = 3;
+    static final byte JUROS = 4;   // contraparte = dia apurado (epoch day)
+    static final byte TARIFA = 5;  // contraparte = dia apurado (epoch day)
+    static final byte ABERTURA = 6; // centavos = saldo inicial, dados = titular
+
+    static final int MAGIA = 0x44494152; // "DIAR"
+    static final int VERSAO = 2;         // 1 = arquivos sem cabeçalho nem ABERTURA (não são lidos)
+    static final int TAMANHO_CABECALHO = 4 + 4;
+    static final int TAMANHO_FIXO = 8 + 8 + 1 + 8 + 8 + 8 + 2 + 4; // Entrada sem dados
+    static final int TAMANHO_MAXIMO_DADOS = 0xFFFF;
+    private static final int TAMANHO_BUFFER = TAMANHO_FIXO * 4096; // Cabe qualquer entrada
+
+    private final FileChannel canal;
+    private final CRC32C crc = new CRC32C(); // Usado só com o lock
+    private final Thread gravador;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition gravado = lock.newCondition();
+    private final Condition gravacaoPedida = lock.newCondition();
+    private ByteBuffer pendente = ByteBuffer.allocate(TAMANHO_BUFFER);
+    private ByteBuffer reserva = ByteBuffer.allocate(TAMANHO_BUFFER);
+    private long ultimaSequencia;  // Última anexada (em memória)
+    private long sequenciaDuravel; // Última que já passou pelo fsync
+    private boolean gravando;      // Existe um líder fazendo write + fsync
+    private boolean pedido;        // Alguém pediu para a thread gravadora esvaziar o buffer
+    private boolean fechado;
+    private IOException falha;     // Depois de uma falha de disco, o diário não aceita mais nada
+    private long fsyncs;
+
+    /**
+     * Recebe cada entrada válida durante a recuperação, em ordem de sequência
+     * (titular só vem preenchido na ABERTURA)
+     */
+    interface Leitor {
+        void entrada(long sequencia, long instante, byte tipo, long conta, long contraparte, long valor, String titular);
+    }
+
+    private DiarioLedger(FileChannel canal, long ultimaSequencia) {
+        this.canal = canal;
+        this.ultimaSequencia = ultimaSequencia;
+        this.sequenciaDuravel = ultimaSequencia;
+        this.gravador = new Thread(this::gravarEmSegundoPlano, "diario-gravador");
+        gravador.setDaemon(true);
+        gravador.start();
+    }
+
+    /**
+     * Abre (ou cria) o diário e reproduz as entradas confirmadas.
+     * Uma escrita interrompida na última entrada é descartada (truncada);
+     * cabeçalho desconhecido ou entrada inválida no meio do arquivo lançam IOException.
+     */
+    public static DiarioLedger abrir(Path arquivo, Leitor leitor) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            verificarCabecalho(canal, arquivo);
+            long ultima = reproduzir(canal, leitor);
+            canal.position(canal.size());
+            return new DiarioLedger(canal, ultima);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 🔁 RECUPERAÇÃO: recria as contas do diário e reaplica as operações
+     *
+     * Cada ABERTURA vira uma conta com o id, o titular e o saldo inicial
+     * originais, colocada no mapa (chave = id); os ids novos continuam depois
+     * do maior recuperado. Recuperar antes de criar qualquer conta no processo.
+     * Entrada de uma conta sem ABERTURA é corrupção: a recuperação falha.
+     */
+    public static DiarioLedger recuperar(Path arquivo, Map<Long, ContaBancaria> contas) throws IOException {
+        return recuperar(arquivo, contas, false);
+    }
+
+    /**
+     * Com histórico: cada conta recuperada já nasce com ele, e os eventos
+     * entram com o instante gravado (saldoEmCentavos funciona antes da queda)
+     */
+    public static DiarioLedger recuperar(Path arquivo, Map<Long, ContaBancaria> contas, boolean comHistorico)
+            throws IOException {
+        return abrir(arquivo, (sequencia, instante, tipo, conta, contraparte, valor, titular) -> {
+            if (tipo == ABERTURA) {
+                if (contas.containsKey(conta)) {
+                    throw new IllegalStateException("Entrada " + sequencia + ": conta " + conta + " aberta duas vezes");
+                }
+                contas.put(conta, ContaBancaria.restaurar(conta, titular, valor, instante, comHistorico));
+                return;
+            }
+            ContaBancaria afetada = contaExistente(contas, conta, sequencia);
+            switch (tipo) {
+                case DEPOSITO -> afetada.creditar(valor, HistoricoConta.DEPOSITO, 0, instante);
+                case SAQUE -> afetada.debitarSemValidar(valor, HistoricoConta.SAQUE, 0, instante);
+                case TRANSFERENCIA -> {
+                    ContaBancaria destino = contaExistente(contas, contraparte, sequencia);
+                    afetada.debitarSemValidar(valor, HistoricoConta.TRANSFERENCIA_ENVIADA, contraparte, instante);
+                    destino.creditar(valor, HistoricoConta.TRANSFERENCIA_RECEBIDA, conta, instante);
+                }
+                case JUROS -> {
+                    afetada.creditar(valor, HistoricoConta.JUROS, 0, instante);
+                    afetada.marcarEncargosApurados(contraparte);
+                }
+                case TARIFA -> {
+                    afetada.debitarSemValidar(valor, HistoricoConta.TARIFA, 0, instante);
+                    afetada.marcarEncargosApurados(contraparte);
+                }
+                default -> throw new IllegalStateException("Entrada " + sequencia + ": tipo desconhecido " + tipo);
+            }
+        });
+    }
+
+    private static ContaBancaria contaExistente(Map<Long, ContaBancaria> contas, long conta, long sequencia) {
+        ContaBancaria encontrada = contas.get(conta);
+        if (encontrada == null) {
+            throw new IllegalStateException("Entrada " + sequencia + ": conta " + conta + " sem ABERTURA no diário");
+        }
+        return encontrada;
+    }
+
+    /**
+     * Anexa uma entrada no buffer (sem I/O) e retorna sua sequência.
+     * Chamar ANTES de alterar o saldo; depois, aguardarDurabilidade(sequencia).
+     */
+    public long anexar(byte tipo, long conta, long contraparte, long valor, long instante) {
+        lock.lock();
+        try {
+            return anexarComLock(tipo, conta, contraparte, valor, instante, null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 🆕 Abertura de conta: sem ela a recuperação não sabe recriar a conta
+     */
+    public long anexarAbertura(long conta, String titular, long saldoInicial, long instante) {
+        byte[] dados = titular.getBytes(StandardCharsets.UTF_8);
+        if (dados.length > TAMANHO_MAXIMO_DADOS) {
+            throw new IllegalArgumentException("Titular longo demais para o diário: " + dados.length + " bytes");
+        }
+        lock.lock();
+        try {
+            return anexarComLock(ABERTURA, conta, 0, saldoInicial, instante, dados);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 📦 Anexa n entradas com um único lock (sequências contíguas, na ordem dos arrays)
+     *
+     * @return sequência da última entrada (0 se n == 0)
+     */
+    public long anexarLote(byte[] tipos, long[] contas, long[] contrapartes, long[] valores, int n, long instante) {
+        if (n == 0) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            long sequencia = 0;
+            for (int i = 0; i < n; i++) {
+                sequencia = anexarComLock(tipos[i], contas[i], contrapartes[i], valores[i], instante, null);
+            }
+            return sequencia;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Bloqueia até a entrada estar no disco. O primeiro que chega vira o
+     * "líder" e grava o lote inteiro; os outros só esperam o sinal.
+     */
+    public void aguardarDurabilidade(long sequencia) {
+        lock.lock();
+        try {
+            while (sequenciaDuravel < sequencia) {
+                if (falha != null) {
+                    throw new UncheckedIOException("Falha ao gravar o diário", falha);
+                }
+                if (gravando) {
+                    gravado.awaitUninterruptibly();
+                } else {
+                    gravarComoLider();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Espera todas as entradas anexadas até agora (fim de um lote)
+     */
+    public void sincronizar() {
+        long ultima;
+        lock.lock();
+        try {
+            ultima = ultimaSequencia;
+        } finally {
+            lock.unlock();
+        }
+        aguardarDurabilidade(ultima);
+    }
+
+    public long getSequenciaDuravel() {
+        lock.lock();
+        try {
+            return sequenciaDuravel;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Quantos fsyncs foram feitos (compare com a sequência para ver o ganho do group commit)
+     */
+    public long getFsyncs() {
+        lock.lock();
+        try {
+            return fsyncs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            fechado = true;
+            gravacaoPedida.signalAll();
+            while (gravando) {
+                gravado.awaitUninterruptibly();
+            }
+            if (falha == null && pendente.position() > 0) {
+                gravarComoLider();
+            }
+        } finally {
+            lock.unlock();
+            try {
+                gravador.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            canal.close();
+        }
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private long anexarComLock(byte tipo, long conta, long contraparte, long valor, long instante, byte[] dados) {
+        verificarDisponivel();
+        int tamanho = TAMANHO_FIXO + (dados == null ? 0 : dados.length);
+        while (pendente.remaining() < tamanho) {
+            // Buffer cheio: quem grava é a thread gravadora (ou o líder atual), nunca quem anexa
+            pedirGravacao();
+            gravado.awaitUninterruptibly();
+            verificarDisponivel();
+        }
+        long sequencia = ++ultimaSequencia;
+        int inicio = pendente.position();
+        pendente.putLong(sequencia).putLong(instante).put(tipo).putLong(conta).putLong(contraparte).putLong(valor);
+        if (dados == null) {
+            pendente.putShort((short) 0);
+        } else {
+            pendente.putShort((short) dados.length).put(dados);
+        }
+        crc.reset();
+        crc.update(pendente.array(), inicio, tamanho - 4);
+        pendente.putInt((int) crc.getValue());
+        if (pendente.position() >= TAMANHO_BUFFER / 2) {
+            pedirGravacao(); // Adianta a gravação para o buffer raramente lotar
+        }
+        return sequencia;
+    }
+
+    private void verificarDisponivel() {
+        if (falha != null) {
+            throw new UncheckedIOException("Diário indisponível após falha de gravação", falha);
+        }
+        if (fechado) {
+            throw new IllegalStateException("Diário fechado");
+        }
+    }
+
+    private void pedirGravacao() {
+        if (!pedido && !gravando) {
+            pedido = true;
+            gravacaoPedida.signal();
+        }
+    }
+
+    /**
+     * Laço da thread gravadora: espera um pedido e grava como líder
+     * (se já houver um líder, quem pediu volta a pedir quando ele terminar)
+     */
+    private void gravarEmSegundoPlano() {
+        lock.lock();
+        try {
+            while (true) {
+                while (!pedido && !fechado) {
+                    gravacaoPedida.awaitUninterruptibly();
+                }
+                if (fechado) {
+                    return; // close() grava o que sobrou
+                }
+                pedido = false;
+                if (!gravando && falha == null && pendente.position() > 0) {
+                    gravarComoLider();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Troca os buffers, grava e faz fsync SEM o lock (outras threads seguem
+     * anexando no buffer novo). Chamado com o lock; retorna com o lock.
+     */
+    private void gravarComoLider() {
+        ByteBuffer lote = pendente;
+        long ultimaDoLote = ultimaSequencia;
+        pendente = reserva;
+        gravando = true;
+        lock.unlock();
+
+        IOException erro = null;
+        try {
+            lote.flip();
+            while (lote.hasRemaining()) {
+                canal.write(lote);
+            }
+            canal.force(false);
+        } catch (IOException e) {
+            erro = e;
+        } finally {
+            lock.lock();
+        }
+
+        lote.clear();
+        reserva = lote;
+        gravando = false;
+        if (erro != null) {
+            falha = erro;
+        } else {
+            sequenciaDuravel = ultimaDoLote;
+            fsyncs++;
+        }
+        gravado.signalAll();
+    }
+
+    /**
+     * Arquivo novo recebe o cabeçalho; existente precisa ter a mesma magia e versão
+     */
+    private static void verificarCabecalho(FileChannel canal, Path arquivo) throws IOException {
+        if (canal.size() < TAMANHO_CABECALHO) {
+            // Vazio ou criação interrompida: ainda não pode haver entradas
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).putInt(MAGIA).putInt(VERSAO).flip();
+            canal.truncate(0);
+            while (cabecalho.hasRemaining()) {
+                canal.write(cabecalho, cabecalho.position());
+            }
+            canal.force(true);
+            return;
+        }
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        while (cabecalho.hasRemaining()) {
+            canal.read(cabecalho, cabecalho.position());
+        }
+        cabecalho.flip();
+        int magia = cabecalho.getInt();
+        int versao = cabecalho.getInt();
+        if (magia != MAGIA) {
+            throw new IOException("Não é um diário (ou é de uma versão sem cabeçalho): " + arquivo);
+        }
+        if (versao != VERSAO) {
+            throw new IOException("Diário na versão " + versao + ", esperada " + VERSAO + ": " + arquivo);
+        }
+    }
+
+    /**
+     * Lê as entradas do início e retorna a última sequência válida
+     */
+    private static long reproduzir(FileChannel canal, Leitor leitor) throws IOException {
+        ByteBuffer leitura = ByteBuffer.allocate(TAMANHO_BUFFER);
+        leitura.flip(); // Começa vazio
+        CRC32C crc = new CRC32C();
+        long tamanhoArquivo = canal.size();
+        long lidoAte = TAMANHO_CABECALHO; // Posição no arquivo do fim do que está no buffer
+        long posicao = TAMANHO_CABECALHO; // Posição no arquivo da próxima entrada
+        long esperada = 1;
+
+        while (true) {
+            int tamanho = leitura.remaining() < TAMANHO_FIXO ? TAMANHO_FIXO : tamanhoEntrada(leitura);
+            if (leitura.remaining() < tamanho) {
+                if (lidoAte >= tamanhoArquivo) {
+                    break; // Fim do arquivo (o que sobrou é uma entrada incompleta)
+                }
+                leitura.compact();
+                int lidos = canal.read(leitura, lidoAte);
+                leitura.flip();
+                if (lidos < 0) {
+                    break;
+                }
+                lidoAte += lidos;
+                continue;
+            }
+
+            int inicio = leitura.position();
+            crc.reset();
+            crc.update(leitura.array(), inicio, tamanho - 4);
+            if (leitura.getInt(inicio + tamanho - 4) != (int) crc.getValue()) {
+                if (fimDosDados(canal, posicao, tamanhoArquivo) - posicao > TAMANHO_BUFFER) {
+                    throw new IOException("Diário corrompido na entrada " + esperada + " (posição " + posicao
+                                          + "): há dados depois dela, nada foi descartado");
+                }
+                break; // Lote interrompido: nenhuma entrada daqui em diante foi confirmada
+            }
+            long sequencia = leitura.getLong();
+            long instante = leitura.getLong();
+            byte tipo = leitura.get();
+            long conta = leitura.getLong();
+            long contraparte = leitura.getLong();
+            long valor = leitura.getLong();
+            int tamanhoDados = Short.toUnsignedInt(leitura.getShort());
+            String titular = null;
+            if (tamanhoDados > 0) {
+                titular = new String(leitura.array(), leitura.position(), tamanhoDados, StandardCharsets.UTF_8);
+                leitura.position(leitura.position() + tamanhoDados);
+            }
+            leitura.getInt(); // CRC, já conferido
+            if (sequencia != esperada) {
+                // CRC válido com sequência errada não é escrita interrompida
+                throw new IOException("Diário corrompido: sequência " + sequencia + " onde se esperava " + esperada);
+            }
+            leitor.entrada(sequencia, instante, tipo, conta, contraparte, valor, titular);
+            esperada++;
+            posicao += tamanho;
+        }
+        if (posicao < tamanhoArquivo) {
+            canal.truncate(posicao); // Descarta a escrita interrompida para a próxima anexação
+        }
+        return esperada - 1;
+    }
+
+    /**
+     * Só a ABERTURA tem dados: um tamanho em outro tipo de entrada é lixo, e
+     * a entrada é conferida com o tamanho fixo (o CRC vai acusar o defeito)
+     */
+    private static int tamanhoEntrada(ByteBuffer leitura) {
+        int inicio = leitura.position();
+        if (leitura.get(inicio + 16) != ABERTURA) {
+            return TAMANHO_FIXO;
+        }
+        return TAMANHO_FIXO + Short.toUnsignedInt(leitura.getShort(inicio + TAMANHO_FIXO - 6));
+    }
+
+    /**
+     * Posição logo depois do último byte não zero entre inicio e fim (inicio se
+     * só houver zeros). Lê de trás para frente: a cauda zerada costuma ser curta.
+     */
+    private static long fimDosDados(FileChannel canal, long inicio, long fim) throws IOException {
+        ByteBuffer bloco = ByteBuffer.allocate(8192);
+        long fimBloco = fim;
+        while (fimBloco > inicio) {
+            long inicioBloco = Math.max(inicio, fimBloco - bloco.capacity());
+            bloco.clear().limit((int) (fimBloco - inicioBloco));
+            while (bloco.hasRemaining()) {
+                if (canal.read(bloco, inicioBloco + bloco.position()) < 0) {
+                    break;
+                }
+            }
+            for (int i = bloco.position() - 1; i >= 0; i--) {
+                if (bloco.get(i) != 0) {
+                    return inicioBloco + i + 1;
+                }
+            }
+            fimBloco = inicioBloco;
+        }
+        return inicio;
+    }
+}
@@ -0,0 +1,71 @@
+package main.java.zothers.examples;
+
+import java.util.Arrays;
+
+/**
+ * 📅 DIAS APURADOS: Em quais dias (epoch day) a conta já teve juros/tarifa
+ *
+ * PHP: SELECT 1 FROM encargos WHERE conta_id = ? AND dia = ?
+ * Java: intervalos ordenados [início, fim] em um long[], juntados quando encostam
+ *
+ * Dias apurados em sequência viram um único intervalo (16 bytes por conta,
+ * não 8 por dia). Um dia que ficou para trás continua "não apurado" e pode
+ * ser apurado depois: o buraco some quando ele é marcado.
+ *
+ * Não é thread-safe sozinho: a ContaBancaria só chama com o seu lock.
+ */
+final class DiasApurados {
+    private long[] intervalos = new long[2]; // Pares (início, fim), inclusive
+    private int quantidade;                  // Quantos pares estão em uso
+
+    boolean contem(long dia) {
+        int i = primeiroComFimAPartirDe(dia);
+        return i < quantidade && intervalos[2 * i] <= dia;
+    }
+
+    void marcar(long dia) {
+        int i = primeiroComFimAPartirDe(dia);
+        if (i < quantidade && intervalos[2 * i] <= dia) {
+            return; // Já marcado
+        }
+        boolean encostaAntes = i > 0 && intervalos[2 * (i - 1) + 1] == dia - 1;
+        boolean encostaDepois = i < quantidade && intervalos[2 * i] == dia + 1;
+        if (encostaAntes && encostaDepois) {
+            // Fecha o buraco: junta o anterior com o seguinte
+            intervalos[2 * (i - 1) + 1] = intervalos[2 * i + 1];
+            System.arraycopy(intervalos, 2 * (i + 1), intervalos, 2 * i, 2 * (quantidade - i - 1));
+            quantidade--;
+        } else if (encostaAntes) {
+            intervalos[2 * (i - 1) + 1] = dia;
+        } else if (encostaDepois) {
+            intervalos[2 * i] = dia;
+        } else {
+            if (2 * (quantidade + 1) > intervalos.length) {
+                intervalos = Arrays.copyOf(intervalos, intervalos.length * 2);
+            }
+            System.arraycopy(intervalos, 2 * i, intervalos, 2 * (i + 1), 2 * (quantidade - i));
+            intervalos[2 * i] = dia;
+            intervalos[2 * i + 1] = dia;
+            quantidade++;
+        }
+    }
+
+    int getIntervalos() { return quantidade; }
+
+    /**
+     * Primeiro intervalo que termina no dia ou depois (busca binária)
+     */
+    private int primeiroComFimAPartirDe(long dia) {
+        int baixo = 0;
+        int alto = quantidade;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (intervalos[2 * meio + 1] < dia) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+}
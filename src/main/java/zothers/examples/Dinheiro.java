@@ -0,0 +1,75 @@
+package main.java.zothers.examples;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 💵 DINHEIRO: Valores monetários em centavos (long), nunca em double
+ *
+ * PHP: 0.1 + 0.2 == 0.3 → false (float), por isso se usa bcadd() ou centavos int
+ * Java: mesmo problema com double; aqui R$ 10,50 é guardado como 1050L
+ *
+ * Somar e subtrair long é exato e não aloca nada. A conversão de/para
+ * reais só acontece nas bordas (entrada do usuário e exibição).
+ * A formatação anexa direto num StringBuilder: sem String.format.
+ */
+final class Dinheiro {
+    static final long CENTAVOS_POR_REAL = 100;
+
+    private Dinheiro() {
+    }
+
+    /**
+     * Converte reais para centavos arredondando para o centavo mais próximo
+     * (usa o texto do double: 0.29 vira 29, não 28)
+     */
+    static long deReais(double reais) {
+        if (Double.isNaN(reais) || Double.isInfinite(reais)) {
+            throw new IllegalArgumentException("Valor monetário inválido: " + reais);
+        }
+        return BigDecimal.valueOf(reais).movePointRight(2).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+    }
+
+    /**
+     * Só para exibição ou APIs legadas: nunca faça contas com o resultado
+     */
+    static double emReais(long centavos) {
+        return centavos / (double) CENTAVOS_POR_REAL;
+    }
+
+    /**
+     * Soma com verificação de overflow (Math.addExact lança ArithmeticException)
+     */
+    static long somar(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    static long subtrair(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /**
+     * "1234.56" (mesmo formato que o %.2f usava)
+     */
+    static String formatar(long centavos) {
+        return anexar(new StringBuilder(24), centavos).toString();
+    }
+
+    /**
+     * Anexa o valor formatado sem criar Strings intermediárias
+     */
+    static StringBuilder anexar(StringBuilder destino, long centavos) {
+        long reais = centavos / CENTAVOS_POR_REAL;
+        long resto = centavos % CENTAVOS_POR_REAL;
+        if (centavos < 0) {
+            destino.append('-');
+            reais = -reais; // Nunca estoura: |MIN_VALUE / 100| cabe em long
+            resto = -resto;
+        }
+        destino.append(reais).append('.');
+        if (resto < 10) {
+            destino.append('0');
+        }
+        return destino.append(resto);
+    }
+}
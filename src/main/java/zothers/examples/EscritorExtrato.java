@@ -0,0 +1,226 @@
+package main.java.zothers.examples;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 🧾 ESCRITOR DE EXTRATO: Grava contas em CSV ou binário, em streaming
+ *
+ * PHP: $f = fopen('extrato.csv', 'w'); fputcsv($f, [...]); fclose($f);
+ * Java: try (EscritorExtrato e = EscritorExtrato.abrir(arquivo, CSV)) { e.escrever(conta); }
+ *
+ * Cada linha é montada num StringBuilder reaproveitado e codificada direto
+ * num buffer de 64KB; o arquivo só recebe write() quando o buffer enche.
+ * Memória constante: 1 conta ou 1 milhão, o escritor usa os mesmos buffers.
+ * O buffer direto é da thread, não do escritor: abrir() o pega emprestado e
+ * close() devolve, então um arquivo por conta não aloca memória direta por arquivo.
+ *
+ * CSV:     id;titular;saldo  (titular entre aspas se tiver ; " ou quebra de linha)
+ * Binário: [magico:4] [versao:1] e por conta: [id:8] [centavos:8] [bytesTitular:2] [titular UTF-8]
+ * Texto que não é UTF-16 válido (surrogate sem par) sai como '?', nunca corta o registro.
+ */
+class EscritorExtrato implements AutoCloseable {
+    static final int MAGICO = 0x45585452; // "EXTR"
+    static final byte VERSAO = 1;
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final int MAXIMO_CHARS_TITULAR = 0xFFFF / 3; // Cabe nos 2 bytes de tamanho mesmo no pior caso
+    private static final int MAXIMO_REGISTRO_BINARIO = 8 + 8 + 2 + MAXIMO_CHARS_TITULAR * 3;
+    // Buffer livre de cada thread (vazio enquanto um escritor da thread está aberto)
+    private static final ThreadLocal<ByteBuffer> BUFFER_LIVRE = new ThreadLocal<>();
+
+    enum Formato {
+        CSV(".csv"), BINARIO(".bin");
+
+        final String extensao;
+
+        Formato(String extensao) {
+            this.extensao = extensao;
+        }
+    }
+
+    private final FileChannel canal;
+    private final Formato formato;
+    private ByteBuffer buffer; // null depois do close(): já voltou para a thread
+    private final CharsetEncoder codificador = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final StringBuilder linha = new StringBuilder(128);
+    private CharBuffer caracteres = CharBuffer.allocate(256);
+    private long contas;
+    private long bytesGravados;
+
+    private EscritorExtrato(FileChannel canal, Formato formato) {
+        this.canal = canal;
+        this.formato = formato;
+        this.buffer = emprestarBuffer();
+    }
+
+    /**
+     * Cria (ou sobrescreve) o arquivo e grava o cabeçalho
+     */
+    public static EscritorExtrato abrir(Path arquivo, Formato formato) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        EscritorExtrato escritor = new EscritorExtrato(canal, formato);
+        if (formato == Formato.CSV) {
+            escritor.linha.append("id;titular;saldo\n");
+            escritor.codificarLinha();
+        } else {
+            escritor.buffer.putInt(MAGICO).put(VERSAO);
+        }
+        return escritor;
+    }
+
+    /**
+     * Grava uma conta (saldo lido uma vez, sem travar a conta)
+     */
+    public void escrever(ContaBancaria conta) throws IOException {
+        if (formato == Formato.CSV) {
+            linha.append(conta.getId()).append(';');
+            anexarCampoCsv(conta.getTitular());
+            linha.append(';');
+            Dinheiro.anexar(linha, conta.getSaldoCentavos()).append('\n');
+            codificarLinha();
+        } else {
+            escreverBinario(conta);
+        }
+        contas++;
+    }
+
+    public long getContas() { return contas; }
+    public long getBytesGravados() { return bytesGravados + (buffer == null ? 0 : buffer.position()); }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            esvaziar();
+        } finally {
+            BUFFER_LIVRE.set(buffer);
+            buffer = null;
+            canal.close();
+        }
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    /**
+     * Buffer livre da thread; se outro escritor da mesma thread estiver com ele, aloca um novo
+     */
+    private static ByteBuffer emprestarBuffer() {
+        ByteBuffer livre = BUFFER_LIVRE.get();
+        if (livre == null) {
+            // Registro binário não pode ser dividido (o tamanho é preenchido depois): o maior tem que caber
+            return ByteBuffer.allocateDirect(Math.max(TAMANHO_BUFFER, MAXIMO_REGISTRO_BINARIO));
+        }
+        BUFFER_LIVRE.remove();
+        livre.clear();
+        return livre;
+    }
+
+    private void escreverBinario(ContaBancaria conta) throws IOException {
+        String titular = conta.getTitular();
+        if (titular.length() > MAXIMO_CHARS_TITULAR) {
+            throw new IOException("Titular grande demais para o extrato binário: conta " + conta.getId());
+        }
+        if (buffer.remaining() < 18 + titular.length() * 3) {
+            esvaziar(); // Pior caso UTF-8: 3 bytes por char
+        }
+        carregarCaracteres(titular);
+        buffer.putLong(conta.getId()).putLong(conta.getSaldoCentavos());
+        int posicaoTamanho = buffer.position();
+        buffer.putShort((short) 0); // Preenchido depois de codificar
+        codificar(false); // Cabe: espaço do pior caso garantido acima
+        buffer.putShort(posicaoTamanho, (short) (buffer.position() - posicaoTamanho - 2));
+    }
+
+    private void anexarCampoCsv(String valor) {
+        boolean precisaAspas = false;
+        for (int i = 0; i < valor.length() && !precisaAspas; i++) {
+            char c = valor.charAt(i);
+            precisaAspas = c == ';' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!precisaAspas) {
+            linha.append(valor);
+            return;
+        }
+        linha.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '"') {
+                linha.append('"'); // Aspas viram aspas duplas (RFC 4180)
+            }
+            linha.append(c);
+        }
+        linha.append('"');
+    }
+
+    /**
+     * Codifica a linha montada para UTF-8 no buffer, esvaziando quando enche
+     */
+    private void codificarLinha() throws IOException {
+        carregarCaracteres(linha);
+        linha.setLength(0);
+        codificar(true);
+    }
+
+    /**
+     * Codifica os caracteres carregados; buffer cheio só é permitido se der para esvaziar no meio
+     */
+    private void codificar(boolean podeEsvaziar) throws IOException {
+        codificador.reset();
+        CoderResult resultado;
+        while (!(resultado = codificador.encode(caracteres, buffer, true)).isUnderflow()) {
+            tratar(resultado, podeEsvaziar);
+        }
+        while (!(resultado = codificador.flush(buffer)).isUnderflow()) {
+            tratar(resultado, podeEsvaziar);
+        }
+    }
+
+    private void tratar(CoderResult resultado, boolean podeEsvaziar) throws IOException {
+        if (resultado.isOverflow() && podeEsvaziar) {
+            esvaziar();
+        } else {
+            resultado.throwException(); // Erro de codificação ou registro binário sem espaço: nunca grava pela metade
+        }
+    }
+
+    /**
+     * Copia o texto para o CharBuffer reaproveitado (cresce só se preciso)
+     */
+    private void carregarCaracteres(CharSequence texto) {
+        if (texto.length() > caracteres.capacity()) {
+            caracteres = CharBuffer.allocate(Math.max(texto.length(), caracteres.capacity() * 2));
+        }
+        caracteres.clear();
+        if (texto instanceof StringBuilder) {
+            StringBuilder sb = (StringBuilder) texto;
+            sb.getChars(0, sb.length(), caracteres.array(), 0);
+            caracteres.position(sb.length());
+        } else {
+            caracteres.put(texto.toString());
+        }
+        caracteres.flip();
+    }
+
+    private void esvaziar() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytesGravados += canal.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,202 @@
+package main.java.zothers.examples;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📐 ESQUEMA: Campos declarados uma vez, posição fixa em cada linha
+ *
+ * PHP: $usuario = ["idade" => 30, ...]; $usuario["idade"] (hash da chave a cada acesso)
+ * Java: Esquema.construtor().inteiro("idade")...; linha.getInt(IDADE) (índice de array)
+ *
+ * O nome do campo só é procurado uma vez, ao pegar o "campo" (um handle com
+ * o slot já resolvido). Depois disso cada acesso é array[slot]:
+ * - int e boolean ficam num int[] da linha (sem Integer/Boolean, sem unboxing)
+ * - textos e outros objetos ficam num Object[]
+ */
+final class Esquema {
+    enum Tipo { INT, BOOLEAN, TEXTO }
+
+    private final String nome;
+    private final String[] nomes;
+    private final Tipo[] tipos;
+    private final int[] slots;                   // Posição no int[] ou no Object[] da linha
+    private final Map<String, Integer> indices;  // Nome → campo (só para resolver handles e adaptadores)
+    private final int quantidadePrimitivos;
+    private final int quantidadeObjetos;
+
+    private Esquema(String nome, List<String> nomes, List<Tipo> tipos) {
+        this.nome = nome;
+        this.nomes = nomes.toArray(new String[0]);
+        this.tipos = tipos.toArray(new Tipo[0]);
+        this.slots = new int[this.nomes.length];
+        Map<String, Integer> porNome = new HashMap<>();
+        int primitivos = 0;
+        int objetos = 0;
+        for (int i = 0; i < this.nomes.length; i++) {
+            slots[i] = this.tipos[i] == Tipo.TEXTO ? objetos++ : primitivos++;
+            porNome.put(this.nomes[i], i);
+        }
+        this.indices = Collections.unmodifiableMap(porNome);
+        this.quantidadePrimitivos = primitivos;
+        this.quantidadeObjetos = objetos;
+    }
+
+    static Construtor construtor(String nome) {
+        return new Construtor(nome);
+    }
+
+    // ==========================================
+    // Handles (resolva uma vez, guarde em constante)
+    // ==========================================
+
+    CampoInt campoInt(String nomeCampo) {
+        return new CampoInt(this, slotDo(nomeCampo, Tipo.INT), nomeCampo);
+    }
+
+    CampoBoolean campoBoolean(String nomeCampo) {
+        return new CampoBoolean(this, slotDo(nomeCampo, Tipo.BOOLEAN), nomeCampo);
+    }
+
+    CampoTexto campoTexto(String nomeCampo) {
+        return new CampoTexto(this, slotDo(nomeCampo, Tipo.TEXTO), nomeCampo);
+    }
+
+    // ==========================================
+    // Linhas
+    // ==========================================
+
+    Linha novaLinha() {
+        return new Linha(this, new int[quantidadePrimitivos], new Object[quantidadeObjetos]);
+    }
+
+    /**
+     * 🔌 Adaptador de entrada: converte uma linha no formato antigo (mapa)
+     *
+     * Todo campo do esquema precisa estar no mapa; chaves a mais são erro
+     * (provavelmente um nome digitado errado).
+     */
+    Linha deMapa(Map<String, ?> mapa) {
+        Linha linha = novaLinha();
+        for (int i = 0; i < nomes.length; i++) {
+            if (!mapa.containsKey(nomes[i])) {
+                throw new IllegalArgumentException("Campo '" + nomes[i] + "' ausente para o esquema " + nome);
+            }
+            linha.definir(i, mapa.get(nomes[i]));
+        }
+        if (mapa.size() != nomes.length) {
+            for (String chave : mapa.keySet()) {
+                if (!indices.containsKey(chave)) {
+                    throw new IllegalArgumentException("Campo '" + chave + "' não existe no esquema " + nome);
+                }
+            }
+        }
+        return linha;
+    }
+
+    List<Linha> deMapas(List<? extends Map<String, ?>> mapas) {
+        List<Linha> linhas = new ArrayList<>(mapas.size());
+        for (Map<String, ?> mapa : mapas) {
+            linhas.add(deMapa(mapa));
+        }
+        return linhas;
+    }
+
+    String getNome() { return nome; }
+    int quantidadeCampos() { return nomes.length; }
+    String nomeCampo(int campo) { return nomes[campo]; }
+    Tipo tipoCampo(int campo) { return tipos[campo]; }
+    int slotCampo(int campo) { return slots[campo]; }
+
+    /**
+     * Índice do campo pelo nome (-1 se não existe). Caminho lento: só para adaptadores.
+     */
+    int indiceCampo(Object nomeCampo) {
+        Integer indice = indices.get(nomeCampo);
+        return indice == null ? -1 : indice;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(nome).append('(');
+        for (int i = 0; i < nomes.length; i++) {
+            texto.append(i == 0 ? "" : ", ").append(nomes[i]).append(' ').append(tipos[i]);
+        }
+        return texto.append(')').toString();
+    }
+
+    private int slotDo(String nomeCampo, Tipo tipo) {
+        int indice = indiceCampo(nomeCampo);
+        if (indice < 0) {
+            throw new IllegalArgumentException("Campo '" + nomeCampo + "' não existe no esquema " + nome);
+        }
+        if (tipos[indice] != tipo) {
+            throw new IllegalArgumentException("Campo '" + nomeCampo + "' é " + tipos[indice] + ", não " + tipo);
+        }
+        return slots[indice];
+    }
+
+    /**
+     * 🏗️ Declara os campos em ordem (a ordem é a do toString e do mapa adaptado)
+     */
+    static final class Construtor {
+        private final String nome;
+        private final List<String> nomes = new ArrayList<>();
+        private final List<Tipo> tipos = new ArrayList<>();
+
+        private Construtor(String nome) {
+            this.nome = nome;
+        }
+
+        Construtor inteiro(String campo) { return campo(campo, Tipo.INT); }
+        Construtor booleano(String campo) { return campo(campo, Tipo.BOOLEAN); }
+        Construtor texto(String campo) { return campo(campo, Tipo.TEXTO); }
+
+        private Construtor campo(String campo, Tipo tipo) {
+            if (nomes.contains(campo)) {
+                throw new IllegalArgumentException("Campo duplicado: " + campo);
+            }
+            nomes.add(campo);
+            tipos.add(tipo);
+            return this;
+        }
+
+        Esquema construir() {
+            return new Esquema(nome, nomes, tipos);
+        }
+    }
+
+    // ==========================================
+    // Campos tipados (handle = esquema + slot)
+    // ==========================================
+
+    abstract static class Campo {
+        final Esquema esquema;
+        final int slot;
+        final String nome;
+
+        Campo(Esquema esquema, int slot, String nome) {
+            this.esquema = esquema;
+            this.slot = slot;
+            this.nome = nome;
+        }
+
+        @Override
+        public String toString() { return esquema.nome + "." + nome; }
+    }
+
+    static final class CampoInt extends Campo {
+        private CampoInt(Esquema esquema, int slot, String nome) { super(esquema, slot, nome); }
+    }
+
+    static final class CampoBoolean extends Campo {
+        private CampoBoolean(Esquema esquema, int slot, String nome) { super(esquema, slot, nome); }
+    }
+
+    static final class CampoTexto extends Campo {
+        private CampoTexto(Esquema esquema, int slot, String nome) { super(esquema, slot, nome); }
+    }
+}
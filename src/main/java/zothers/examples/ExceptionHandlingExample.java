@@ -1,6 +1,12 @@
 package main.java.zothers.examples;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
 import java.util.*;
 
 /**
@@ -10,171 +16,222 @@ import java.util.*;
  * sempre comparando com try/catch do PHP que você já conhece.
  * 
  * Tópicos: Checked vs Unchecked, Custom Exceptions, Try-with-resources
+ *
+ * Cada tipo fica no seu arquivo (como uma classe por arquivo no PSR-4):
+ * UsuarioInvalidoException, SaldoInsuficienteException, LimiteVelocidadeException e ContaBancaria.
  */
 
 // ==========================================
-// 1. CUSTOM EXCEPTIONS (PHP Exception)
+// 1. SERVIÇO BANCÁRIO (Demonstrando diferentes tipos de exceptions)
 // ==========================================
 
-/**
- * 🔴 EXCEPTION CUSTOMIZADA: Como PHP Exception
- * 
- * PHP: class MinhaException extends Exception { ... }
- * Java: class MinhaException extends Exception { ... }
- */
-class UsuarioInvalidoException extends Exception {
-    private String campo;
-    private Object valor;
+class ServicoBancario {
+    private final DiarioLedger diario;
+    private final MotorTransferencias motor;
+    private final RegistroContas registro = new RegistroContas();
+    private volatile PoliticaVelocidade politicaVelocidade; // Aplicada a toda conta criada aqui
     
-    public UsuarioInvalidoException(String campo, Object valor, String mensagem) {
-        super(mensagem);
-        this.campo = campo;
-        this.valor = valor;
+    public ServicoBancario() {
+        this(null);
     }
     
-    public String getCampo() { return campo; }
-    public Object getValor() { return valor; }
-    
-    @Override
-    public String getMessage() {
-        return String.format("❌ Campo '%s' inválido (valor: %s): %s", campo, valor, super.getMessage());
+    /**
+     * Com diário: toda conta criada aqui registra suas operações nele
+     */
+    public ServicoBancario(DiarioLedger diario) {
+        this.diario = diario;
+        this.motor = new MotorTransferencias(diario);
     }
-}
-
-/**
- * 🟠 RUNTIME EXCEPTION: Para erros de lógica
- */
-class SaldoInsuficienteException extends RuntimeException {
-    private double saldoAtual;
-    private double valorSaque;
     
-    public SaldoInsuficienteException(double saldoAtual, double valorSaque) {
-        super(String.format("Saldo insuficiente: R$ %.2f (tentativa: R$ %.2f)", saldoAtual, valorSaque));
-        this.saldoAtual = saldoAtual;
-        this.valorSaque = valorSaque;
+    /**
+     * 🔁 RECUPERAÇÃO: abre o diário e volta com as contas como estavam
+     * (mesmos ids, titulares e saldos); as próximas operações continuam nele
+     */
+    public static ServicoBancario recuperar(Path arquivo) throws IOException {
+        return recuperar(arquivo, false);
     }
     
-    public double getSaldoAtual() { return saldoAtual; }
-    public double getValorSaque() { return valorSaque; }
-}
-
-// ==========================================
-// 2. CLASSE DE EXEMPLO (Simulando operações que podem falhar)
-// ==========================================
-
-/**
- * 💳 CONTA BANCÁRIA: Para demonstrar exceptions
- */
-class ContaBancaria {
-    private String titular;
-    private double saldo;
-    
-    public ContaBancaria(String titular, double saldoInicial) throws UsuarioInvalidoException {
-        // Validação que pode lançar exception
-        if (titular == null || titular.trim().isEmpty()) {
-            throw new UsuarioInvalidoException("titular", titular, "Nome do titular é obrigatório");
-        }
-        if (saldoInicial < 0) {
-            throw new UsuarioInvalidoException("saldoInicial", saldoInicial, "Saldo inicial não pode ser negativo");
+    /**
+     * @param comHistorico contas voltam com o histórico completo desde a abertura
+     */
+    public static ServicoBancario recuperar(Path arquivo, boolean comHistorico) throws IOException {
+        Map<Long, ContaBancaria> contas = new LinkedHashMap<>();
+        DiarioLedger diario = DiarioLedger.recuperar(arquivo, contas, comHistorico);
+        ServicoBancario servico = new ServicoBancario(diario);
+        for (ContaBancaria conta : contas.values()) {
+            conta.setDiario(diario);
         }
-        
-        this.titular = titular;
-        this.saldo = saldoInicial;
+        servico.registro.registrarTodas(contas.values());
+        System.out.println("🔁 Recuperadas " + contas.size() + " contas (diário até a entrada "
+                           + diario.getSequenciaDuravel() + ")");
+        return servico;
     }
     
-    public void sacar(double valor) {
-        if (valor > saldo) {
-            throw new SaldoInsuficienteException(saldo, valor);
+    /**
+     * 🏦 CRIAR CONTA: Pode lançar checked exception
+     */
+    public ContaBancaria criarConta(String titular, double saldoInicial) throws UsuarioInvalidoException {
+        System.out.println("🏦 Criando conta para: " + titular);
+        ContaBancaria conta = new ContaBancaria(registro.nomeCanonico(titular), saldoInicial);
+        if (diario != null) {
+            diario.aguardarDurabilidade(conta.registrarAbertura(diario)); // Write-ahead: a abertura vem antes de tudo
+        }
+        if (politicaVelocidade != null) {
+            conta.setPoliticaVelocidade(politicaVelocidade);
         }
-        saldo -= valor;
-        System.out.println(String.format("✅ Saque realizado: R$ %.2f (saldo: R$ %.2f)", valor, saldo));
+        registro.registrar(conta);
+        return conta;
     }
     
-    public void depositar(double valor) throws UsuarioInvalidoException {
-        if (valor <= 0) {
-            throw new UsuarioInvalidoException("valor", valor, "Valor do depósito deve ser positivo");
+    /**
+     * 📥 IMPORTAÇÃO EM LOTE: cria e registra muitas contas de uma vez (sem log por conta)
+     * 
+     * Se algum titular for inválido, nada é registrado.
+     */
+    public List<ContaBancaria> importarContas(List<String> titulares, long[] saldosIniciaisCentavos) 
+            throws UsuarioInvalidoException {
+        if (titulares.size() != saldosIniciaisCentavos.length) {
+            throw new IllegalArgumentException("Titulares e saldos com tamanhos diferentes");
+        }
+        List<ContaBancaria> contas = new ArrayList<>(titulares.size());
+        for (int i = 0; i < saldosIniciaisCentavos.length; i++) {
+            ContaBancaria conta = ContaBancaria.emCentavos(registro.nomeCanonico(titulares.get(i)), 
+                                                           saldosIniciaisCentavos[i]);
+            if (politicaVelocidade != null) {
+                conta.setPoliticaVelocidade(politicaVelocidade);
+            }
+            contas.add(conta);
+        }
+        if (diario != null) {
+            // Só depois de validar todas: titular inválido não deixa aberturas no diário
+            for (ContaBancaria conta : contas) {
+                conta.registrarAbertura(diario);
+            }
+            diario.sincronizar(); // Um fsync para o lote inteiro
         }
-        saldo += valor;
-        System.out.println(String.format("✅ Depósito realizado: R$ %.2f (saldo: R$ %.2f)", valor, saldo));
+        registro.registrarTodas(contas);
+        System.out.println("📥 Importadas " + contas.size() + " contas");
+        return contas;
     }
     
-    // Método que pode falhar ao acessar arquivo (IOException)
-    public void salvarExtrato(String nomeArquivo) throws IOException {
-        // Simula operação que pode falhar
-        if (nomeArquivo.contains("*")) {
-            throw new IOException("Nome de arquivo inválido: " + nomeArquivo);
-        }
-        
-        // Não vamos realmente criar arquivo, só simular
-        System.out.println("📄 Extrato salvo em: " + nomeArquivo);
+    public ContaBancaria buscarConta(long id) {
+        return registro.buscar(id);
     }
     
-    public String getTitular() { return titular; }
-    public double getSaldo() { return saldo; }
-}
-
-// ==========================================
-// 3. SERVIÇO BANCÁRIO (Demonstrando diferentes tipos de exceptions)
-// ==========================================
-
-class ServicoBancario {
+    public RegistroContas getRegistro() { return registro; }
     
     /**
-     * 🏦 CRIAR CONTA: Pode lançar checked exception
+     * 🚨 Limites de saída (saques e transferências) para as contas já registradas e para as próximas (null remove)
      */
-    public ContaBancaria criarConta(String titular, double saldoInicial) throws UsuarioInvalidoException {
-        System.out.println("🏦 Criando conta para: " + titular);
-        return new ContaBancaria(titular, saldoInicial);
+    public void setPoliticaVelocidade(PoliticaVelocidade politica) {
+        this.politicaVelocidade = politica;
+        registro.forEach(conta -> conta.setPoliticaVelocidade(politica));
     }
     
     /**
      * 💰 TRANSFERÊNCIA: Múltiplas exceptions possíveis
+     * 
+     * Atômica: as duas pernas são validadas antes de qualquer alteração,
+     * então um erro nunca deixa dinheiro sacado sem depósito.
      */
     public void transferir(ContaBancaria origem, ContaBancaria destino, double valor) 
             throws UsuarioInvalidoException {
         
-        System.out.println(String.format("🔄 Transferindo R$ %.2f de %s para %s", 
-                                        valor, origem.getTitular(), destino.getTitular()));
+        transferirCentavos(origem, destino, Dinheiro.deReais(valor));
+    }
+    
+    public void transferirCentavos(ContaBancaria origem, ContaBancaria destino, long valor) 
+            throws UsuarioInvalidoException {
         
-        // Pode lançar legacy.fundamentals.SaldoInsuficienteException (unchecked)
-        origem.sacar(valor);
+        System.out.println("🔄 Transferindo R$ " + Dinheiro.formatar(valor) 
+                           + " de " + origem.getTitular() + " para " + destino.getTitular());
         
-        // Pode lançar legacy.fundamentals.UsuarioInvalidoException (checked)
-        destino.depositar(valor);
+        // Pode lançar legacy.fundamentals.SaldoInsuficienteException ou LimiteVelocidadeException (unchecked)
+        // ou legacy.fundamentals.UsuarioInvalidoException (checked)
+        motor.transferir(origem, destino, valor);
         
         System.out.println("✅ Transferência concluída!");
     }
     
+    /**
+     * 📦 TRANSFERÊNCIA EM LOTE: sem exceptions e sem uma linha de log por transferência
+     * 
+     * Cada posição do retorno é o código (ResultadoOperacao) da transferência correspondente.
+     */
+    public byte[] transferirLote(LoteTransferencias lote, List<ContaBancaria> contas) {
+        byte[] resultados = lote.executar(motor, contas);
+        System.out.println("📦 Lote: " + lote.size() + " transferências, " 
+                           + LoteTransferencias.contar(resultados, ResultadoOperacao.OK) + " concluídas");
+        return resultados;
+    }
+    
+    public MotorTransferencias getMotor() { return motor; }
+    
     /**
      * 📊 RELATÓRIO: Try-with-resources (como PHP finally)
      */
     public void gerarRelatorio(List<ContaBancaria> contas) {
         System.out.println("📊 Gerando relatório de contas...");
         
+        Path diretorio;
+        try {
+            diretorio = Files.createTempDirectory("extratos");
+        } catch (IOException e) {
+            System.out.println("⚠️ Erro ao criar diretório de extratos: " + e.getMessage());
+            return;
+        }
+        
         // Try-with-resources (fecha automaticamente)
-        try (Scanner scanner = new Scanner(System.in)) {
+        try (EscritorExtrato relatorio = EscritorExtrato.abrir(diretorio.resolve("relatorio.csv"), 
+                                                               EscritorExtrato.Formato.CSV)) {
             
             for (ContaBancaria conta : contas) {
-                System.out.println(String.format("• %s: R$ %.2f", 
-                                                conta.getTitular(), conta.getSaldo()));
+                System.out.println("• " + conta.getTitular() + ": R$ " + Dinheiro.formatar(conta.getSaldoCentavos()));
+                relatorio.escrever(conta);
                 
-                // Simula tentativa de salvar (pode falhar)
+                // Tentativa de salvar o extrato individual (pode falhar)
                 try {
-                    String nomeArquivo = "extrato_" + conta.getTitular().toLowerCase() + ".txt";
-                    conta.salvarExtrato(nomeArquivo);
+                    String nomeArquivo = "extrato_" + conta.getTitular().toLowerCase() + ".csv";
+                    conta.salvarExtrato(diretorio + File.separator + nomeArquivo);
                 } catch (IOException e) {
                     System.out.println("⚠️ Erro ao salvar extrato: " + e.getMessage());
                 }
             }
             
-        } // Scanner é fechado automaticamente aqui
+        } catch (IOException e) {
+            System.out.println("⚠️ Erro ao gravar relatório: " + e.getMessage());
+        } // Relatório é fechado (e gravado no disco) automaticamente aqui
         
-        System.out.println("📊 Relatório concluído!");
+        System.out.println("📊 Relatório concluído em: " + diretorio);
+    }
+    
+    /**
+     * 🏭 FECHAMENTO MENSAL: extratos de todas as contas em paralelo
+     */
+    public GeradorExtratos.Resumo gerarExtratos(List<ContaBancaria> contas, Path diretorio, 
+                                                EscritorExtrato.Formato formato, GeradorExtratos.Modo modo, 
+                                                int threads) throws IOException {
+        return new GeradorExtratos(threads).gerar(contas, diretorio, formato, modo);
+    }
+    
+    /**
+     * 🌙 FECHAMENTO DIÁRIO: juros e tarifa em todas as contas registradas
+     * 
+     * Pode ser chamado de novo para o mesmo dia (ex.: depois de uma queda):
+     * contas já apuradas são puladas.
+     */
+    public ApuracaoEncargos.Resumo apurarEncargos(LocalDate dia, long taxaJurosDiaria, long tarifaDiariaCentavos) {
+        List<ContaBancaria> contas = new ArrayList<>(registro.size());
+        registro.forEach(contas::add);
+        ApuracaoEncargos.Resumo resumo = new ApuracaoEncargos(diario, taxaJurosDiaria, tarifaDiariaCentavos)
+            .executar(contas, dia);
+        System.out.println("🌙 " + resumo);
+        return resumo;
     }
 }
 
 // ==========================================
-// 4. CLASSE PRINCIPAL COM DEMONSTRAÇÕES
+// 2. CLASSE PRINCIPAL COM DEMONSTRAÇÕES
 // ==========================================
 
 public class ExceptionHandlingExample {
@@ -190,6 +247,7 @@ public class ExceptionHandlingExample {
         demonstrarUncheckedExceptions(servico);
         demonstrarMultiplasExceptions(servico);
         demonstrarTryWithResources(servico);
+        demonstrarRecuperacaoDiario();
         demonstrarBestPractices();
     }
     
@@ -239,8 +297,8 @@ public class ExceptionHandlingExample {
             System.out.println("🔴 Erro ao criar conta: " + e.getMessage());
         } catch (SaldoInsuficienteException e) {
             System.out.println("🔴 Erro no saque: " + e.getMessage());
-            System.out.println("   Saldo atual: R$ " + String.format("%.2f", e.getSaldoAtual()));
-            System.out.println("   Tentativa: R$ " + String.format("%.2f", e.getValorSaque()));
+            System.out.println("   Saldo atual: R$ " + Dinheiro.formatar(e.getSaldoAtualCentavos()));
+            System.out.println("   Tentativa: R$ " + Dinheiro.formatar(e.getValorSaqueCentavos()));
         }
         
         System.out.println();
@@ -306,11 +364,53 @@ public class ExceptionHandlingExample {
         System.out.println();
     }
     
+    /**
+     * 💥 RECUPERAÇÃO DO DIÁRIO: Queda no meio de um group commit
+     */
+    private static void demonstrarRecuperacaoDiario() {
+        System.out.println("💥 5. RECUPERAÇÃO DO DIÁRIO (queda no meio de um lote)");
+        System.out.println("PHP: o InnoDB refaz o redo log sozinho quando o MySQL sobe");
+        System.out.println("Java: DiarioLedger.recuperar() descarta o lote interrompido e refaz o resto\n");
+        
+        try {
+            Path arquivo = Files.createTempDirectory("diario").resolve("contas.diario");
+            long idConta;
+            try (DiarioLedger diario = DiarioLedger.recuperar(arquivo, new HashMap<>())) {
+                ContaBancaria conta = new ServicoBancario(diario).criarConta("Cliente Diário", 100.0);
+                idConta = conta.getId();
+                for (int i = 0; i < 9; i++) {
+                    conta.tryDepositarCentavos(1000); // Entradas 2 a 10 (a 1 é a abertura)
+                }
+            }
+            
+            // Simula a queda: a 10ª entrada chegou pela metade e o arquivo cresceu com zeros
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.WRITE)) {
+                long tamanho = canal.size();
+                int metade = DiarioLedger.TAMANHO_FIXO / 2;
+                canal.write(ByteBuffer.allocate(metade), tamanho - metade);
+                canal.write(ByteBuffer.allocate(4096), tamanho);
+            }
+            
+            Map<Long, ContaBancaria> contas = new HashMap<>();
+            try (DiarioLedger diario = DiarioLedger.recuperar(arquivo, contas)) {
+                System.out.println("✅ Recuperado até a entrada " + diario.getSequenciaDuravel() + ": saldo R$ "
+                                   + Dinheiro.formatar(contas.get(idConta).getSaldoCentavos())
+                                   + " (o último depósito nunca foi confirmado)");
+            }
+        } catch (UsuarioInvalidoException e) {
+            System.out.println("🔴 Erro ao criar conta: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("🔴 Diário corrompido: " + e.getMessage());
+        }
+        
+        System.out.println();
+    }
+    
     /**
      * 🎯 BEST PRACTICES: Dicas importantes
      */
     private static void demonstrarBestPractices() {
-        System.out.println("🎯 5. BEST PRACTICES (dicas importantes)");
+        System.out.println("🎯 6. BEST PRACTICES (dicas importantes)");
         
         System.out.println("\n📋 REGRAS DE OURO:");
         System.out.println("1. 🎯 Catch específico antes do genérico");
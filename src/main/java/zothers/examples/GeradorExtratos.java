@@ -0,0 +1,143 @@
+package main.java.zothers.examples;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🏭 GERADOR DE EXTRATOS: Fechamento mensal em paralelo, com pool limitado
+ *
+ * PHP: um job por conta na fila (Laravel Horizon com N workers)
+ * Java: um pool fixo de N threads; cada thread cuida de uma faixa de contas
+ *
+ * Dois modos:
+ * - POR_CONTA: um arquivo por conta (extrato-<id>.csv)
+ * - FRAGMENTADO: um arquivo por thread (extratos-000.csv ...), bem melhor
+ *   para milhões de contas: poucos arquivos, escrita sequencial
+ *
+ * Memória constante: cada thread reaproveita os buffers do seu escritor e
+ * nenhuma lista de resultados cresce com o número de contas.
+ */
+class GeradorExtratos {
+    enum Modo { POR_CONTA, FRAGMENTADO }
+
+    private final int threads;
+
+    public GeradorExtratos(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads deve ser >= 1");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Gera os extratos e só retorna quando todos os arquivos estiverem fechados
+     */
+    public Resumo gerar(List<ContaBancaria> contas, Path diretorio, EscritorExtrato.Formato formato, Modo modo)
+            throws IOException {
+        Files.createDirectories(diretorio);
+        int faixas = Math.max(1, Math.min(threads, contas.size()));
+        AtomicLong falhas = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(faixas);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>(faixas);
+            for (int faixa = 0; faixa < faixas; faixa++) {
+                int inicio = (int) ((long) contas.size() * faixa / faixas);
+                int fim = (int) ((long) contas.size() * (faixa + 1) / faixas);
+                int numero = faixa;
+                tarefas.add(pool.submit(() -> {
+                    List<ContaBancaria> parte = contas.subList(inicio, fim);
+                    if (modo == Modo.FRAGMENTADO) {
+                        gerarFragmento(parte, diretorio.resolve(String.format("extratos-%03d%s", numero, formato.extensao)),
+                            formato, bytes);
+                    } else {
+                        gerarPorConta(parte, diretorio, formato, bytes, falhas);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                aguardar(tarefa);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new Resumo(contas.size() - falhas.get(), falhas.get(), bytes.get());
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private static void gerarFragmento(List<ContaBancaria> contas, Path arquivo, EscritorExtrato.Formato formato,
+                                       AtomicLong bytes) throws IOException {
+        EscritorExtrato escritor = EscritorExtrato.abrir(arquivo, formato);
+        try (escritor) {
+            for (ContaBancaria conta : contas) {
+                escritor.escrever(conta);
+            }
+        }
+        bytes.addAndGet(escritor.getBytesGravados());
+    }
+
+    /**
+     * Um arquivo por conta: uma falha não interrompe as outras contas
+     */
+    private static void gerarPorConta(List<ContaBancaria> contas, Path diretorio, EscritorExtrato.Formato formato,
+                                      AtomicLong bytes, AtomicLong falhas) {
+        for (ContaBancaria conta : contas) {
+            try {
+                bytes.addAndGet(conta.salvarExtrato(
+                    diretorio.resolve("extrato-" + conta.getId() + formato.extensao), formato));
+            } catch (IOException e) {
+                falhas.incrementAndGet();
+            }
+        }
+    }
+
+    private static void aguardar(Future<?> tarefa) throws IOException {
+        try {
+            tarefa.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Geração de extratos interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException("Falha na geração de extratos", e.getCause());
+        }
+    }
+
+    /**
+     * 📋 Resultado da execução (contas gravadas, falhas, bytes)
+     */
+    static final class Resumo {
+        private final long contas;
+        private final long falhas;
+        private final long bytes;
+
+        Resumo(long contas, long falhas, long bytes) {
+            this.contas = contas;
+            this.falhas = falhas;
+            this.bytes = bytes;
+        }
+
+        public long getContas() { return contas; }
+        public long getFalhas() { return falhas; }
+        public long getBytes() { return bytes; }
+
+        @Override
+        public String toString() {
+            return String.format("Extratos: %d contas | %d falhas | %d bytes", contas, falhas, bytes);
+        }
+    }
+}
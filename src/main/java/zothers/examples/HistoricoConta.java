@@ -0,0 +1,257 @@
+package main.java.zothers.examples;
+
+import java.util.Arrays;
+
+/**
+ * 🕰️ HISTÓRICO DA CONTA: Event sourcing com snapshots periódicos
+ *
+ * PHP: uma tabela conta_eventos + SELECT SUM(valor) WHERE criado_em <= ?
+ * Java: os eventos ficam em arrays primitivos dentro da própria conta
+ *
+ * Cada mudança de saldo vira um evento (abertura, depósito, saque, perna
+ * de transferência, juros, tarifa). A cada N eventos guardamos um snapshot compacto
+ * (posição do evento + saldo depois dele). Saldo em qualquer instante =
+ * snapshot mais próximo antes do instante + no máximo N eventos de cauda.
+ *
+ * Os eventos ficam ordenados por instante: um que chega atrasado (relógio
+ * que recuou, diário reproduzido) entra na posição certa, com o instante
+ * original. Memória limitada: ao atingir o máximo, a metade mais antiga vira
+ * um saldo base e consultas antes dela lançam exceção.
+ *
+ * Não é thread-safe sozinho: a ContaBancaria só chama com o seu lock.
+ */
+class HistoricoConta {
+    static final byte ABERTURA = 0;
+    static final byte DEPOSITO = 1;
+    static final byte SAQUE = 2;
+    static final byte TRANSFERENCIA_ENVIADA = 3;
+    static final byte TRANSFERENCIA_RECEBIDA = 4;
+    static final byte JUROS = 5;
+    static final byte TARIFA = 6;
+
+    static final int EVENTOS_POR_SNAPSHOT_PADRAO = 64;
+    static final int MAXIMO_EVENTOS_PADRAO = 1 << 16;
+
+    private final int eventosPorSnapshot;
+    private final int maximoEventos;
+    private final long abertura;
+
+    // Eventos (colunas paralelas: instante, tipo, variação do saldo, conta do outro lado)
+    private long[] instantes = new long[8];
+    private byte[] tipos = new byte[8];
+    private long[] variacoes = new long[8];
+    private long[] contrapartes = new long[8];
+    private int eventos;
+
+    // Snapshots: saldo logo depois do evento na posição indicada
+    private int[] posicoesSnapshot = new int[4];
+    private long[] saldosSnapshot = new long[4];
+    private int snapshots;
+
+    // Eventos descartados pelo limite: somados no saldo base
+    private long saldoBase;
+    private long descartadoAte = Long.MIN_VALUE; // Instante do último evento descartado
+
+    private long saldo;
+
+    /**
+     * Recebe os eventos de um período (para auditoria / extrato detalhado)
+     */
+    interface Visitante {
+        void evento(long instante, byte tipo, long variacao, long contraparte, long saldoDepois);
+    }
+
+    HistoricoConta(long saldoInicial, long instanteAbertura, int eventosPorSnapshot) {
+        this(saldoInicial, instanteAbertura, eventosPorSnapshot, MAXIMO_EVENTOS_PADRAO);
+    }
+
+    HistoricoConta(long saldoInicial, long instanteAbertura, int eventosPorSnapshot, int maximoEventos) {
+        if (eventosPorSnapshot < 1) {
+            throw new IllegalArgumentException("Eventos por snapshot deve ser >= 1");
+        }
+        if (maximoEventos < 2) {
+            throw new IllegalArgumentException("Máximo de eventos deve ser >= 2");
+        }
+        this.eventosPorSnapshot = eventosPorSnapshot;
+        this.maximoEventos = maximoEventos;
+        this.abertura = instanteAbertura;
+        registrar(ABERTURA, saldoInicial, 0, instanteAbertura);
+    }
+
+    /**
+     * Anexa um evento na posição do seu instante (depois dos de mesmo instante).
+     * Só um instante anterior à abertura é ajustado: a conta não existia antes.
+     */
+    void registrar(byte tipo, long variacao, long contraparte, long instante) {
+        instante = Math.max(instante, abertura);
+        saldo = Dinheiro.somar(saldo, variacao);
+        if (instante < descartadoAte) {
+            // Caiu na parte já descartada: só o saldo base (e tudo depois dele) muda
+            saldoBase = Dinheiro.somar(saldoBase, variacao);
+            ajustarSnapshots(0, variacao, 0);
+            return;
+        }
+        if (eventos == maximoEventos) {
+            descartarMaisAntigos(eventos / 2);
+        }
+        if (eventos == instantes.length) {
+            int nova = Math.min(eventos * 2, maximoEventos);
+            instantes = Arrays.copyOf(instantes, nova);
+            tipos = Arrays.copyOf(tipos, nova);
+            variacoes = Arrays.copyOf(variacoes, nova);
+            contrapartes = Arrays.copyOf(contrapartes, nova);
+        }
+
+        int posicao = eventos;
+        if (eventos > 0 && instante < instantes[eventos - 1]) {
+            // Fora de ordem (raro): abre espaço e corrige os snapshots depois dele
+            posicao = primeiroEventoApos(instante);
+            int depois = eventos - posicao;
+            System.arraycopy(instantes, posicao, instantes, posicao + 1, depois);
+            System.arraycopy(tipos, posicao, tipos, posicao + 1, depois);
+            System.arraycopy(variacoes, posicao, variacoes, posicao + 1, depois);
+            System.arraycopy(contrapartes, posicao, contrapartes, posicao + 1, depois);
+            ajustarSnapshots(posicao, variacao, 1);
+        }
+        instantes[posicao] = instante;
+        tipos[posicao] = tipo;
+        variacoes[posicao] = variacao;
+        contrapartes[posicao] = contraparte;
+        eventos++;
+
+        int ultimoSnapshot = snapshots == 0 ? -1 : posicoesSnapshot[snapshots - 1];
+        if (eventos - 1 - ultimoSnapshot >= eventosPorSnapshot) {
+            if (snapshots == posicoesSnapshot.length) {
+                posicoesSnapshot = Arrays.copyOf(posicoesSnapshot, snapshots * 2);
+                saldosSnapshot = Arrays.copyOf(saldosSnapshot, snapshots * 2);
+            }
+            posicoesSnapshot[snapshots] = eventos - 1;
+            saldosSnapshot[snapshots] = saldo;
+            snapshots++;
+        }
+    }
+
+    /**
+     * Saldo (centavos) ao final do instante pedido: 1 busca binária + cauda curta
+     */
+    long saldoEm(long instante) {
+        if (instante < abertura) {
+            throw new IllegalArgumentException("A conta ainda não existia em " + instante);
+        }
+        verificarRetido(instante);
+        int snapshot = ultimoSnapshotAte(instante);
+        long resultado = snapshot < 0 ? saldoBase : saldosSnapshot[snapshot];
+        int i = snapshot < 0 ? 0 : posicoesSnapshot[snapshot] + 1;
+        for (; i < eventos && instantes[i] <= instante; i++) {
+            resultado += variacoes[i];
+        }
+        return resultado;
+    }
+
+    /**
+     * Percorre os eventos com instante entre inicio e fim (inclusive), em ordem
+     */
+    void eventosEntre(long inicio, long fim, Visitante visitante) {
+        long saldoCorrente;
+        if (inicio <= abertura) {
+            verificarRetido(abertura - 1);
+            saldoCorrente = 0;
+        } else {
+            saldoCorrente = saldoEm(inicio - 1);
+        }
+        int i = primeiroEventoApos(inicio - 1);
+        for (; i < eventos && instantes[i] <= fim; i++) {
+            saldoCorrente += variacoes[i];
+            visitante.evento(instantes[i], tipos[i], variacoes[i], contrapartes[i], saldoCorrente);
+        }
+    }
+
+    int getEventos() { return eventos; }
+    int getSnapshots() { return snapshots; }
+    long getSaldo() { return saldo; }
+    long getDescartadoAte() { return descartadoAte; }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private void verificarRetido(long instante) {
+        if (instante < descartadoAte) {
+            throw new IllegalArgumentException("Histórico antes de " + descartadoAte
+                                               + " foi descartado (limite de " + maximoEventos + " eventos)");
+        }
+    }
+
+    /**
+     * Snapshots do evento na posição indicada em diante passam a incluir a
+     * variação (e andam "deslocamento" posições, se um evento entrou antes deles)
+     */
+    private void ajustarSnapshots(int posicao, long variacao, int deslocamento) {
+        for (int s = snapshots - 1; s >= 0 && posicoesSnapshot[s] >= posicao; s--) {
+            posicoesSnapshot[s] += deslocamento;
+            saldosSnapshot[s] = Dinheiro.somar(saldosSnapshot[s], variacao);
+        }
+    }
+
+    /**
+     * 🗜️ Os n eventos mais antigos viram saldo base (custo amortizado: n = metade)
+     */
+    private void descartarMaisAntigos(int n) {
+        for (int i = 0; i < n; i++) {
+            saldoBase = Dinheiro.somar(saldoBase, variacoes[i]);
+        }
+        descartadoAte = instantes[n - 1];
+        int restantes = eventos - n;
+        System.arraycopy(instantes, n, instantes, 0, restantes);
+        System.arraycopy(tipos, n, tipos, 0, restantes);
+        System.arraycopy(variacoes, n, variacoes, 0, restantes);
+        System.arraycopy(contrapartes, n, contrapartes, 0, restantes);
+        eventos = restantes;
+
+        int mantidos = 0;
+        for (int s = 0; s < snapshots; s++) {
+            if (posicoesSnapshot[s] >= n) {
+                posicoesSnapshot[mantidos] = posicoesSnapshot[s] - n;
+                saldosSnapshot[mantidos] = saldosSnapshot[s];
+                mantidos++;
+            }
+        }
+        snapshots = mantidos;
+    }
+
+    /**
+     * Último snapshot cujo evento aconteceu até o instante (-1 se nenhum)
+     */
+    private int ultimoSnapshotAte(long instante) {
+        int baixo = 0;
+        int alto = snapshots - 1;
+        int encontrado = -1;
+        while (baixo <= alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (instantes[posicoesSnapshot[meio]] <= instante) {
+                encontrado = meio;
+                baixo = meio + 1;
+            } else {
+                alto = meio - 1;
+            }
+        }
+        return encontrado;
+    }
+
+    /**
+     * Posição do primeiro evento com instante maior que o dado
+     */
+    private int primeiroEventoApos(long instante) {
+        int baixo = 0;
+        int alto = eventos;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (instantes[meio] <= instante) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+}
@@ -0,0 +1,35 @@
+package main.java.zothers.examples;
+
+/**
+ * 🚨 LIMITE DE VELOCIDADE: Saque ou transferência recusado pela política antifraude
+ *
+ * Sempre sem stack trace: quem lança é uma regra configurada, não um bug.
+ */
+class LimiteVelocidadeException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final PoliticaVelocidade politica;
+    private final int regra;
+    private final long valorSaqueCentavos;
+    private String mensagem; // Formatada na primeira chamada de getMessage()
+    
+    LimiteVelocidadeException(PoliticaVelocidade politica, int regra, long valorSaqueCentavos) {
+        super(null, null, false, false);
+        this.politica = politica;
+        this.regra = regra;
+        this.valorSaqueCentavos = valorSaqueCentavos;
+    }
+    
+    @Override
+    public String getMessage() {
+        if (mensagem == null) {
+            StringBuilder texto = new StringBuilder(96).append("Limite de saídas excedido (");
+            texto.append(politica.descrever(regra)).append("), tentativa: R$ ");
+            mensagem = Dinheiro.anexar(texto, valorSaqueCentavos).toString();
+        }
+        return mensagem;
+    }
+    
+    public int getRegra() { return regra; }
+    public long getValorSaqueCentavos() { return valorSaqueCentavos; }
+}
@@ -0,0 +1,239 @@
+package main.java.zothers.examples;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 📄 LINHA: Um registro de um Esquema (slots fixos, valores primitivos)
+ *
+ * PHP: (int) $usuario["idade"] > 25
+ * Java: usuario.getInt(IDADE) > 25  // IDADE = esquema.campoInt("idade"), resolvido uma vez
+ *
+ * Código antigo que espera Map<String, Object> usa comoMapa(): uma visão
+ * (não uma cópia) que converte nome → slot e faz o boxing só nessa borda.
+ */
+final class Linha {
+    private final Esquema esquema;
+    private final int[] primitivos; // int e boolean (0/1)
+    private final Object[] objetos;
+
+    Linha(Esquema esquema, int[] primitivos, Object[] objetos) {
+        this.esquema = esquema;
+        this.primitivos = primitivos;
+        this.objetos = objetos;
+    }
+
+    // ==========================================
+    // Acesso tipado (caminho rápido)
+    // ==========================================
+
+    int getInt(Esquema.CampoInt campo) {
+        verificar(campo);
+        return primitivos[campo.slot];
+    }
+
+    boolean getBoolean(Esquema.CampoBoolean campo) {
+        verificar(campo);
+        return primitivos[campo.slot] != 0;
+    }
+
+    String getTexto(Esquema.CampoTexto campo) {
+        verificar(campo);
+        return (String) objetos[campo.slot];
+    }
+
+    Linha set(Esquema.CampoInt campo, int valor) {
+        verificar(campo);
+        primitivos[campo.slot] = valor;
+        return this;
+    }
+
+    Linha set(Esquema.CampoBoolean campo, boolean valor) {
+        verificar(campo);
+        primitivos[campo.slot] = valor ? 1 : 0;
+        return this;
+    }
+
+    Linha set(Esquema.CampoTexto campo, String valor) {
+        verificar(campo);
+        objetos[campo.slot] = valor;
+        return this;
+    }
+
+    Esquema getEsquema() { return esquema; }
+
+    // ==========================================
+    // Adaptador para código no estilo Map<String, Object>
+    // ==========================================
+
+    /**
+     * Visão como mapa: get/put passam direto para os slots (put valida o tipo).
+     * Não dá para remover nem criar chaves: o esquema é fixo.
+     */
+    Map<String, Object> comoMapa() {
+        return new VisaoMapa();
+    }
+
+    /**
+     * Valor do campo pelo nome, com boxing (como mapa.get): prefira os getters tipados
+     */
+    Object get(String nomeCampo) {
+        int campo = esquema.indiceCampo(nomeCampo);
+        return campo < 0 ? null : valor(campo);
+    }
+
+    Object valor(int campo) {
+        int slot = esquema.slotCampo(campo);
+        return switch (esquema.tipoCampo(campo)) {
+            case INT -> primitivos[slot];
+            case BOOLEAN -> primitivos[slot] != 0;
+            case TEXTO -> objetos[slot];
+        };
+    }
+
+    /**
+     * Grava pelo índice do campo, convertendo do valor "solto" do mapa
+     *
+     * @return valor anterior
+     */
+    Object definir(int campo, Object valor) {
+        Object anterior = valor(campo);
+        int slot = esquema.slotCampo(campo);
+        switch (esquema.tipoCampo(campo)) {
+            case INT -> {
+                if (!(valor instanceof Integer || valor instanceof Short || valor instanceof Byte)) {
+                    throw tipoInvalido(campo, valor);
+                }
+                primitivos[slot] = ((Number) valor).intValue();
+            }
+            case BOOLEAN -> {
+                if (!(valor instanceof Boolean)) {
+                    throw tipoInvalido(campo, valor);
+                }
+                primitivos[slot] = (Boolean) valor ? 1 : 0;
+            }
+            case TEXTO -> {
+                if (valor != null && !(valor instanceof String)) {
+                    throw tipoInvalido(campo, valor);
+                }
+                objetos[slot] = valor;
+            }
+        }
+        return anterior;
+    }
+
+    @Override
+    public boolean equals(Object outro) {
+        if (this == outro) {
+            return true;
+        }
+        if (!(outro instanceof Linha)) {
+            return false;
+        }
+        Linha linha = (Linha) outro;
+        return esquema == linha.esquema && Arrays.equals(primitivos, linha.primitivos)
+            && Arrays.equals(objetos, linha.objetos);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(primitivos) + Arrays.hashCode(objetos);
+    }
+
+    /**
+     * Mesmo formato do toString de um mapa: {id=1, nome=João, ...}
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("{");
+        for (int i = 0; i < esquema.quantidadeCampos(); i++) {
+            texto.append(i == 0 ? "" : ", ").append(esquema.nomeCampo(i)).append('=').append(valor(i));
+        }
+        return texto.append('}').toString();
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private void verificar(Esquema.Campo campo) {
+        if (campo.esquema != esquema) { // Uma comparação de referência: slot de outro esquema seria lixo
+            throw new IllegalArgumentException("Campo " + campo + " não pertence ao esquema " + esquema.getNome());
+        }
+    }
+
+    private IllegalArgumentException tipoInvalido(int campo, Object valor) {
+        return new IllegalArgumentException("Campo '" + esquema.nomeCampo(campo) + "' é "
+            + esquema.tipoCampo(campo) + ", recebeu: " + (valor == null ? "null" : valor.getClass().getSimpleName()));
+    }
+
+    private final class VisaoMapa extends AbstractMap<String, Object> {
+        @Override
+        public Object get(Object chave) {
+            int campo = esquema.indiceCampo(chave);
+            return campo < 0 ? null : valor(campo);
+        }
+
+        @Override
+        public boolean containsKey(Object chave) {
+            return esquema.indiceCampo(chave) >= 0;
+        }
+
+        @Override
+        public Object put(String chave, Object valor) {
+            int campo = esquema.indiceCampo(chave);
+            if (campo < 0) {
+                throw new UnsupportedOperationException("Campo '" + chave + "' não existe no esquema " + esquema.getNome());
+            }
+            return definir(campo, valor);
+        }
+
+        @Override
+        public int size() {
+            return esquema.quantidadeCampos();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return esquema.quantidadeCampos();
+                }
+
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int proximo;
+
+                        @Override
+                        public boolean hasNext() {
+                            return proximo < esquema.quantidadeCampos();
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int campo = proximo++;
+                            return new SimpleEntry<>(esquema.nomeCampo(campo), valor(campo)) {
+                                @Override
+                                public Object setValue(Object valor) {
+                                    Object anterior = definir(campo, valor); // Valida antes de mudar a entrada
+                                    super.setValue(valor);
+                                    return anterior;
+                                }
+                            };
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package main.java.zothers.examples;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 📦 LOTE DE TRANSFERÊNCIAS: Liquidação de arquivos inteiros em paralelo
+ *
+ * PHP: foreach ($linhas as $t) { $servico->transferir(...); } // uma por vez
+ * Java: lote.adicionar(...) milhões de vezes, depois lote.executar(...)
+ *
+ * Agendamento em "ondas": cada transferência vai para a onda seguinte à
+ * última onda que usou a sua origem ou o seu destino. Resultado:
+ * - Dentro de uma onda nenhuma conta se repete → roda em paralelo sem disputa
+ * - Transferências da mesma conta ficam em ondas crescentes → ordem do arquivo
+ * Então o saldo final é o mesmo da execução sequencial, linha por linha.
+ *
+ * Tudo em arrays primitivos (int[] contas, long[] centavos, byte[] resultados):
+ * 10 milhões de transferências não criam 10 milhões de objetos.
+ */
+class LoteTransferencias {
+    private static final int MINIMO_PARALELO = 2048; // Ondas menores rodam na thread atual
+
+    private int[] origens;
+    private int[] destinos;
+    private long[] valores;
+    private int tamanho;
+
+    public LoteTransferencias() {
+        this(1024);
+    }
+
+    public LoteTransferencias(int capacidadeInicial) {
+        int capacidade = Math.max(16, capacidadeInicial);
+        origens = new int[capacidade];
+        destinos = new int[capacidade];
+        valores = new long[capacidade];
+    }
+
+    /**
+     * Adiciona uma transferência (contas = posições na lista passada ao executar)
+     *
+     * @return posição da transferência no array de resultados
+     */
+    public int adicionar(int origem, int destino, long valorCentavos) {
+        if (tamanho == origens.length) {
+            int nova = origens.length * 2;
+            origens = Arrays.copyOf(origens, nova);
+            destinos = Arrays.copyOf(destinos, nova);
+            valores = Arrays.copyOf(valores, nova);
+        }
+        origens[tamanho] = origem;
+        destinos[tamanho] = destino;
+        valores[tamanho] = valorCentavos;
+        return tamanho++;
+    }
+
+    public int size() { return tamanho; }
+
+    /**
+     * Executa o lote e retorna o código (ResultadoOperacao.codigo) de cada transferência.
+     * Com diário, retorna só depois de tudo estar no disco.
+     */
+    public byte[] executar(MotorTransferencias motor, List<ContaBancaria> contas) {
+        ContaBancaria[] tabela = contas.toArray(new ContaBancaria[0]);
+        byte[] resultados = new byte[tamanho];
+
+        // 1. Onda de cada transferência (passada sequencial, O(n))
+        int[] ultimaOnda = new int[tabela.length]; // 0 = conta ainda não usada
+        int[] ondas = new int[tamanho];
+        int totalOndas = 0;
+        for (int i = 0; i < tamanho; i++) {
+            int origem = origens[i];
+            int destino = destinos[i];
+            if (!contaValida(origem, tabela) || !contaValida(destino, tabela)) {
+                resultados[i] = ResultadoOperacao.CONTA_INEXISTENTE.codigo;
+                ondas[i] = -1; // Não executa
+                continue;
+            }
+            int onda = Math.max(ultimaOnda[origem], ultimaOnda[destino]) + 1;
+            ultimaOnda[origem] = onda;
+            ultimaOnda[destino] = onda;
+            ondas[i] = onda;
+            totalOndas = Math.max(totalOndas, onda);
+        }
+
+        // 2. Counting sort por onda: inicioOnda[o] .. inicioOnda[o + 1] em ordem[]
+        int[] inicioOnda = new int[totalOndas + 2];
+        for (int i = 0; i < tamanho; i++) {
+            if (ondas[i] > 0) {
+                inicioOnda[ondas[i] + 1]++;
+            }
+        }
+        for (int o = 1; o < inicioOnda.length; o++) {
+            inicioOnda[o] += inicioOnda[o - 1];
+        }
+        int[] ordem = new int[inicioOnda[totalOndas + 1]];
+        int[] cursor = Arrays.copyOf(inicioOnda, inicioOnda.length);
+        for (int i = 0; i < tamanho; i++) {
+            if (ondas[i] > 0) {
+                ordem[cursor[ondas[i]]++] = i;
+            }
+        }
+        ondas = null; // Libera antes da execução
+
+        // 3. Uma onda de cada vez; dentro da onda, em paralelo
+        for (int onda = 1; onda <= totalOndas; onda++) {
+            int inicio = inicioOnda[onda];
+            int fim = inicioOnda[onda + 1];
+            if (fim - inicio < MINIMO_PARALELO) {
+                for (int k = inicio; k < fim; k++) {
+                    executarUma(motor, tabela, ordem[k], resultados);
+                }
+            } else {
+                IntStream.range(inicio, fim).parallel()
+                    .forEach(k -> executarUma(motor, tabela, ordem[k], resultados));
+            }
+        }
+        motor.sincronizarDiario(); // Um único "aguardar fsync" para o lote inteiro
+        return resultados;
+    }
+
+    /**
+     * Quantas transferências terminaram com o resultado dado
+     */
+    public static int contar(byte[] resultados, ResultadoOperacao resultado) {
+        int total = 0;
+        for (byte codigo : resultados) {
+            if (codigo == resultado.codigo) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private void executarUma(MotorTransferencias motor, ContaBancaria[] tabela, int i, byte[] resultados) {
+        resultados[i] = motor.tryTransferirSemAguardar(tabela[origens[i]], tabela[destinos[i]], valores[i]).codigo;
+    }
+
+    private static boolean contaValida(int indice, ContaBancaria[] tabela) {
+        return indice >= 0 && indice < tabela.length && tabela[indice] != null;
+    }
+}
@@ -0,0 +1,145 @@
+package main.java.zothers.examples;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 🔐 MOTOR DE TRANSFERÊNCIAS: Transferências concorrentes sem deadlock
+ *
+ * PHP: $pdo->beginTransaction(); SELECT ... FOR UPDATE nas duas contas; commit;
+ * Java: trava as duas contas, valida, aplica as duas pernas, destrava
+ *
+ * Regra anti-deadlock: as contas são SEMPRE travadas em ordem crescente de
+ * id. Se A→B e B→A acontecem ao mesmo tempo, as duas threads tentam travar
+ * primeiro a de menor id, então nunca uma espera pela outra em círculo.
+ *
+ * A origem passa pelos mesmos limites de velocidade (antifraude) do saque:
+ * transferir não é um jeito de contornar o limite.
+ *
+ * Cada transferência trava só as duas contas envolvidas: transferências entre
+ * pares diferentes rodam em paralelo em todos os núcleos. Não há I/O nem
+ * formatação de texto dentro do lock.
+ *
+ * Com diário, a transferência é anexada (em memória) com as contas travadas
+ * e o fsync é aguardado depois de destravar: o group commit junta as
+ * transferências de todas as threads no mesmo fsync.
+ */
+class MotorTransferencias {
+    private final DiarioLedger diario; // null = sem durabilidade
+    // LongAdder: contador sem disputa entre threads (cada núcleo soma na sua célula)
+    private final LongAdder concluidas = new LongAdder();
+    private final LongAdder recusadas = new LongAdder();
+
+    public MotorTransferencias() {
+        this(null);
+    }
+
+    public MotorTransferencias(DiarioLedger diario) {
+        this.diario = diario;
+    }
+
+    /**
+     * Transfere de forma atômica: ou as duas pernas acontecem, ou nenhuma
+     *
+     * @param valor em centavos
+     */
+    public void transferir(ContaBancaria origem, ContaBancaria destino, long valor)
+            throws UsuarioInvalidoException {
+        switch (executar(origem, destino, valor, true, true)) {
+            case VALOR_INVALIDO -> throw UsuarioInvalidoException.semPilha("valor", valor,
+                "Valor da transferência (centavos) deve ser positivo");
+            case MESMA_CONTA -> throw UsuarioInvalidoException.semPilha("destino", destino.getTitular(),
+                "Origem e destino são a mesma conta");
+            default -> { } // OK (saldo insuficiente e limite de velocidade já lançaram com os detalhes)
+        }
+    }
+
+    /**
+     * Como transferir, mas a falha volta como código: nenhuma exception é criada
+     */
+    public ResultadoOperacao tryTransferir(ContaBancaria origem, ContaBancaria destino, long valor) {
+        return executar(origem, destino, valor, false, true);
+    }
+
+    /**
+     * Para lotes: anexa no diário mas não espera o fsync. Quem chama deve
+     * terminar com sincronizarDiario() antes de confirmar o lote.
+     */
+    ResultadoOperacao tryTransferirSemAguardar(ContaBancaria origem, ContaBancaria destino, long valor) {
+        return executar(origem, destino, valor, false, false);
+    }
+
+    /**
+     * Espera tudo que já foi anexado ao diário chegar ao disco
+     */
+    void sincronizarDiario() {
+        if (diario != null) {
+            diario.sincronizar();
+        }
+    }
+
+    private ResultadoOperacao executar(ContaBancaria origem, ContaBancaria destino, long valor,
+                                       boolean lancarRecusa, boolean aguardarDiario) {
+        // Validações que não dependem de saldo: fora do lock
+        if (valor <= 0) {
+            recusadas.increment();
+            return ResultadoOperacao.VALOR_INVALIDO;
+        }
+        if (origem == destino) {
+            recusadas.increment();
+            return ResultadoOperacao.MESMA_CONTA;
+        }
+
+        ReentrantLock primeiro = origem.getId() < destino.getId() ? origem.getLock() : destino.getLock();
+        ReentrantLock segundo = primeiro == origem.getLock() ? destino.getLock() : origem.getLock();
+
+        long sequencia = 0;
+        primeiro.lock();
+        try {
+            segundo.lock();
+            try {
+                if (!origem.temSaldo(valor)) { // Antes de alterar qualquer saldo
+                    recusadas.increment();
+                    if (lancarRecusa) {
+                        throw SaldoInsuficienteException.semPilha(origem.getSaldoCentavos(), valor);
+                    }
+                    return ResultadoOperacao.SALDO_INSUFICIENTE;
+                }
+                long agora = System.currentTimeMillis();
+                int regra = origem.violacaoVelocidade(valor, agora);
+                if (regra != PoliticaVelocidade.SEM_VIOLACAO) {
+                    recusadas.increment();
+                    if (lancarRecusa) {
+                        throw origem.limiteVelocidadeExcedido(regra, valor);
+                    }
+                    return ResultadoOperacao.LIMITE_VELOCIDADE;
+                }
+                if (diario != null) {
+                    sequencia = diario.anexar(DiarioLedger.TRANSFERENCIA, origem.getId(), destino.getId(), valor, agora);
+                }
+                origem.debitarSemValidar(valor, HistoricoConta.TRANSFERENCIA_ENVIADA, destino.getId(), agora);
+                destino.creditar(valor, HistoricoConta.TRANSFERENCIA_RECEBIDA, origem.getId(), agora); // Já validado acima
+                origem.registrarVelocidade(valor, agora);
+            } finally {
+                segundo.unlock();
+            }
+        } finally {
+            primeiro.unlock();
+        }
+        if (diario != null && aguardarDiario) {
+            // Saldo já visível para outras transferências, mas elas terão sequência maior:
+            // o diário é durável em ordem, então nenhuma é confirmada antes desta
+            diario.aguardarDurabilidade(sequencia);
+        }
+        concluidas.increment();
+        return ResultadoOperacao.OK;
+    }
+
+    public long getConcluidas() { return concluidas.sum(); }
+    public long getRecusadas() { return recusadas.sum(); }
+
+    @Override
+    public String toString() {
+        return String.format("Transferências: %d concluídas | %d recusadas", getConcluidas(), getRecusadas());
+    }
+}
@@ -0,0 +1,261 @@
+package main.java.zothers.examples;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/**
+ * 🧮 PARTIÇÃO EM BITMAPS: groupingBy para chaves pequenas sem alocar por linha
+ *
+ * PHP: foreach ($usuarios as $u) { $grupos[$u['ativo']][] = $u['nome']; }
+ * Java: Particao.porBooleano(usuarios, u -> u.getBoolean(ATIVO))
+ *
+ * groupingBy cria Boolean/Integer de chave, um ArrayList por grupo e cresce
+ * esses ArrayLists linha a linha. Aqui cada grupo é um bitmap (long[]) com
+ * um bit por linha: 100 milhões de linhas em 2 grupos = 2 × 12,5 MB, sem
+ * nenhum objeto por linha. Os nomes só são criados quando alguém pede
+ * (materializar), e contagens/interseções são bitCount sobre long[].
+ *
+ * Grupos são int de 0 a grupos-1: boolean (0/1), ordinal de enum, faixa de idade...
+ */
+final class Particao<T> {
+    static final int FALSO = 0;
+    static final int VERDADEIRO = 1;
+
+    private static final int PALAVRAS_POR_TAREFA = 1024; // 65536 linhas por tarefa paralela
+
+    private final List<? extends T> linhas;
+    private final long[][] bitmaps; // [grupo][linha / 64]
+
+    private Particao(List<? extends T> linhas, long[][] bitmaps) {
+        this.linhas = linhas;
+        this.bitmaps = bitmaps;
+    }
+
+    // ==========================================
+    // Construção direto de uma lista (em paralelo para listas grandes)
+    // ==========================================
+
+    /**
+     * Lista com acesso por índice (ArrayList, List.of, Arrays.asList...)
+     *
+     * @param grupo função que devolve o grupo da linha, de 0 a grupos - 1
+     */
+    static <T> Particao<T> de(List<? extends T> linhas, int grupos, ToIntFunction<? super T> grupo) {
+        int palavras = palavras(linhas.size());
+        long[][] bitmaps = new long[grupos][palavras];
+        int tarefas = (palavras + PALAVRAS_POR_TAREFA - 1) / PALAVRAS_POR_TAREFA;
+        // Cada tarefa escreve só nas suas palavras: nenhuma disputa entre threads
+        IntStream.range(0, tarefas).parallel().forEach(tarefa -> {
+            int inicio = tarefa * PALAVRAS_POR_TAREFA * 64;
+            int fim = Math.min(linhas.size(), inicio + PALAVRAS_POR_TAREFA * 64);
+            for (int i = inicio; i < fim; i++) {
+                bitmaps[verificarGrupo(grupo.applyAsInt(linhas.get(i)), grupos)][i >>> 6] |= 1L << i;
+            }
+        });
+        return new Particao<>(linhas, bitmaps);
+    }
+
+    static <T> Particao<T> porBooleano(List<? extends T> linhas, Predicate<? super T> chave) {
+        return de(linhas, 2, linha -> chave.test(linha) ? VERDADEIRO : FALSO);
+    }
+
+    static <T, E extends Enum<E>> Particao<T> porEnum(List<? extends T> linhas, Class<E> tipo,
+                                                       Function<? super T, E> chave) {
+        return de(linhas, tipo.getEnumConstants().length, linha -> chave.apply(linha).ordinal());
+    }
+
+    // ==========================================
+    // Como Collector (para streams; paralelo junta os pedaços na ordem)
+    // ==========================================
+
+    static <T> Collector<T, ?, Particao<T>> coletor(int grupos, ToIntFunction<? super T> grupo) {
+        return new Coletor<>(grupos, grupo);
+    }
+
+    static <T> Collector<T, ?, Particao<T>> coletorBooleano(Predicate<? super T> chave) {
+        return coletor(2, linha -> chave.test(linha) ? VERDADEIRO : FALSO);
+    }
+
+    // ==========================================
+    // Consultas
+    // ==========================================
+
+    int grupos() { return bitmaps.length; }
+    int tamanho() { return linhas.size(); }
+
+    long contar(int grupo) {
+        long total = 0;
+        for (long palavra : bitmaps[grupo]) {
+            total += Long.bitCount(palavra);
+        }
+        return total;
+    }
+
+    /**
+     * Linhas que estão no grupo desta partição E no grupo da outra (mesmas linhas, outra chave)
+     */
+    long contarInterseccao(int grupo, Particao<?> outra, int grupoOutra) {
+        if (outra.tamanho() != tamanho()) {
+            throw new IllegalArgumentException("Partições de listas com tamanhos diferentes");
+        }
+        long[] a = bitmaps[grupo];
+        long[] b = outra.bitmaps[grupoOutra];
+        long total = 0;
+        for (int i = 0; i < a.length; i++) {
+            total += Long.bitCount(a[i] & b[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Percorre as posições das linhas do grupo, em ordem crescente
+     */
+    void paraCada(int grupo, IntConsumer acao) {
+        long[] bitmap = bitmaps[grupo];
+        for (int p = 0; p < bitmap.length; p++) {
+            long palavra = bitmap[p];
+            while (palavra != 0) {
+                acao.accept((p << 6) + Long.numberOfTrailingZeros(palavra));
+                palavra &= palavra - 1; // Apaga o bit mais baixo
+            }
+        }
+    }
+
+    /**
+     * Cria os valores (ex.: nomes) só das linhas do grupo, na ordem original
+     */
+    <R> List<R> materializar(int grupo, Function<? super T, ? extends R> mapeador) {
+        List<R> resultado = new ArrayList<>((int) contar(grupo));
+        paraCada(grupo, i -> resultado.add(mapeador.apply(linhas.get(i))));
+        return resultado;
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private static int palavras(int linhas) {
+        return (linhas + 63) >>> 6;
+    }
+
+    private static int verificarGrupo(int grupo, int grupos) {
+        if (grupo < 0 || grupo >= grupos) {
+            throw new IllegalArgumentException("Grupo fora da faixa 0.." + (grupos - 1) + ": " + grupo);
+        }
+        return grupo;
+    }
+
+    /**
+     * Copia nBits de origem para destino a partir do bit inicio (palavra a palavra)
+     */
+    private static void anexarBits(long[] destino, int inicio, long[] origem, int nBits) {
+        int deslocamento = inicio & 63;
+        int base = inicio >>> 6;
+        for (int p = 0; p < palavras(nBits); p++) {
+            long palavra = origem[p];
+            if (palavra == 0) {
+                continue;
+            }
+            destino[base + p] |= palavra << deslocamento;
+            if (deslocamento != 0 && base + p + 1 < destino.length) {
+                destino[base + p + 1] |= palavra >>> (64 - deslocamento);
+            }
+        }
+    }
+
+    /**
+     * Acumula as linhas num array crescente (uma cópia amortizada, não um objeto
+     * por linha) e os bits de cada grupo
+     */
+    private static final class Acumulador {
+        Object[] linhas = new Object[64];
+        long[][] bitmaps;
+        int tamanho;
+
+        Acumulador(int grupos) {
+            bitmaps = new long[grupos][1];
+        }
+
+        void reservar(int n) {
+            if (n > linhas.length) {
+                int capacidade = Math.max(n, linhas.length * 2);
+                linhas = Arrays.copyOf(linhas, capacidade);
+                for (int g = 0; g < bitmaps.length; g++) {
+                    bitmaps[g] = Arrays.copyOf(bitmaps[g], palavras(capacidade));
+                }
+            }
+        }
+    }
+
+    private static final class Coletor<T> implements Collector<T, Acumulador, Particao<T>> {
+        private final int grupos;
+        private final ToIntFunction<? super T> grupo;
+
+        Coletor(int grupos, ToIntFunction<? super T> grupo) {
+            this.grupos = grupos;
+            this.grupo = grupo;
+        }
+
+        @Override
+        public Supplier<Acumulador> supplier() {
+            return () -> new Acumulador(grupos);
+        }
+
+        @Override
+        public BiConsumer<Acumulador, T> accumulator() {
+            return (acumulador, linha) -> {
+                int i = acumulador.tamanho;
+                acumulador.reservar(i + 1);
+                acumulador.linhas[i] = linha;
+                acumulador.bitmaps[verificarGrupo(grupo.applyAsInt(linha), grupos)][i >>> 6] |= 1L << i;
+                acumulador.tamanho = i + 1;
+            };
+        }
+
+        @Override
+        public BinaryOperator<Acumulador> combiner() {
+            return (a, b) -> { // b vem depois de a na ordem do stream
+                int inicio = a.tamanho;
+                a.reservar(inicio + b.tamanho);
+                System.arraycopy(b.linhas, 0, a.linhas, inicio, b.tamanho);
+                for (int g = 0; g < grupos; g++) {
+                    anexarBits(a.bitmaps[g], inicio, b.bitmaps[g], b.tamanho);
+                }
+                a.tamanho = inicio + b.tamanho;
+                return a;
+            };
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Function<Acumulador, Particao<T>> finisher() {
+            return acumulador -> {
+                List<T> linhas = Collections.unmodifiableList(
+                    Arrays.asList((T[]) acumulador.linhas).subList(0, acumulador.tamanho));
+                long[][] bitmaps = new long[grupos][];
+                for (int g = 0; g < grupos; g++) {
+                    bitmaps[g] = Arrays.copyOf(acumulador.bitmaps[g], palavras(acumulador.tamanho));
+                }
+                return new Particao<>(linhas, bitmaps);
+            };
+        }
+
+        @Override
+        public Set<Characteristics> characteristics() {
+            return EnumSet.noneOf(Characteristics.class); // Ordem importa: bit i = i-ésima linha
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package main.java.zothers.examples;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 🚨 POLÍTICA DE VELOCIDADE: Limites de saque por janela de tempo (antifraude)
+ *
+ * PHP: RateLimiter::attempt("saque:$contaId", 5, fn() => ..., 60); // Redis por trás
+ * Java: contadores na própria conta, verificados com o lock que o saque já usa
+ *
+ * Exemplo: "no máximo 5 saques OU R$ 2.000,00 em 60 segundos".
+ *
+ * Vale para todo dinheiro que sai por iniciativa do cliente: saques e
+ * transferências enviadas (senão bastaria transferir para outra conta).
+ *
+ * A política (regras) é imutável e compartilhada por todas as contas; cada
+ * conta tem só os seus contadores (Janelas). Cada janela é um anel de 16
+ * baldes: memória fixa por conta, não importa quantos saques aconteçam.
+ * Precisão: a janela desliza em passos de 1/16 do seu tamanho.
+ */
+final class PoliticaVelocidade {
+    static final int BALDES = 16;
+    static final int SEM_VIOLACAO = -1;
+
+    private final long[] janelasMillis;
+    private final int[] maximosSaques;
+    private final long[] maximosCentavos;
+
+    private PoliticaVelocidade(List<long[]> regras) {
+        int n = regras.size();
+        janelasMillis = new long[n];
+        maximosSaques = new int[n];
+        maximosCentavos = new long[n];
+        for (int i = 0; i < n; i++) {
+            long[] regra = regras.get(i);
+            janelasMillis[i] = regra[0];
+            maximosSaques[i] = (int) regra[1];
+            maximosCentavos[i] = regra[2];
+        }
+    }
+
+    static Construtor construtor() {
+        return new Construtor();
+    }
+
+    int quantidadeRegras() { return janelasMillis.length; }
+
+    /**
+     * Texto da regra para mensagens (só chamado quando há violação)
+     */
+    String descrever(int regra) {
+        StringBuilder texto = new StringBuilder("máx. ");
+        if (maximosSaques[regra] != Integer.MAX_VALUE) {
+            texto.append(maximosSaques[regra]).append(" saques");
+        }
+        if (maximosCentavos[regra] != Long.MAX_VALUE) {
+            if (maximosSaques[regra] != Integer.MAX_VALUE) {
+                texto.append(" ou ");
+            }
+            Dinheiro.anexar(texto.append("R$ "), maximosCentavos[regra]);
+        }
+        return texto.append(" em ").append(janelasMillis[regra] / 1000.0).append("s").toString();
+    }
+
+    Janelas novasJanelas() {
+        return new Janelas(this);
+    }
+
+    /**
+     * 🏗️ Monta a política regra a regra
+     */
+    static final class Construtor {
+        private final List<long[]> regras = new ArrayList<>();
+
+        /**
+         * @param maximoSaques    quantidade máxima na janela (Integer.MAX_VALUE = sem limite)
+         * @param maximoCentavos  soma máxima na janela (Long.MAX_VALUE = sem limite)
+         */
+        Construtor regra(long janelaMillis, int maximoSaques, long maximoCentavos) {
+            if (janelaMillis < BALDES) {
+                throw new IllegalArgumentException("Janela mínima: " + BALDES + "ms");
+            }
+            if (maximoSaques < 1 || maximoCentavos < 1) {
+                throw new IllegalArgumentException("Limites devem ser positivos");
+            }
+            regras.add(new long[] {janelaMillis, maximoSaques, maximoCentavos});
+            return this;
+        }
+
+        Construtor maximoSaques(int quantidade, long janelaMillis) {
+            return regra(janelaMillis, quantidade, Long.MAX_VALUE);
+        }
+
+        Construtor maximoValor(long centavos, long janelaMillis) {
+            return regra(janelaMillis, Integer.MAX_VALUE, centavos);
+        }
+
+        PoliticaVelocidade construir() {
+            return new PoliticaVelocidade(regras);
+        }
+    }
+
+    /**
+     * ⏱️ JANELAS DE UMA CONTA: anel de baldes por regra
+     *
+     * Não é thread-safe sozinho: a ContaBancaria só chama com o seu lock
+     * (que o saque já segura), então não há custo de sincronização extra.
+     */
+    static final class Janelas {
+        private final PoliticaVelocidade politica;
+        private final long[] larguras;  // Milissegundos por balde, por regra
+        private final long[] epocas;    // [regra * BALDES + balde] → número do período do balde
+        private final int[] contagens;
+        private final long[] somas;
+
+        private Janelas(PoliticaVelocidade politica) {
+            this.politica = politica;
+            int regras = politica.quantidadeRegras();
+            larguras = new long[regras];
+            for (int r = 0; r < regras; r++) {
+                larguras[r] = politica.janelasMillis[r] / BALDES;
+            }
+            epocas = new long[regras * BALDES];
+            Arrays.fill(epocas, Long.MIN_VALUE);
+            contagens = new int[regras * BALDES];
+            somas = new long[regras * BALDES];
+        }
+
+        /**
+         * Índice da primeira regra que o saque violaria, ou SEM_VIOLACAO
+         */
+        int violacao(long valor, long agora) {
+            for (int r = 0; r < larguras.length; r++) {
+                long epoca = agora / larguras[r];
+                long maisAntiga = epoca - BALDES + 1;
+                int base = r * BALDES;
+                int quantidade = 1;
+                long soma = valor;
+                for (int b = base; b < base + BALDES; b++) {
+                    if (epocas[b] >= maisAntiga) {
+                        quantidade += contagens[b];
+                        soma += somas[b];
+                    }
+                }
+                if (quantidade > politica.maximosSaques[r] || soma > politica.maximosCentavos[r]) {
+                    return r;
+                }
+            }
+            return SEM_VIOLACAO;
+        }
+
+        /**
+         * Conta um saque que aconteceu (chamar só depois de aprovado)
+         */
+        void registrar(long valor, long agora) {
+            for (int r = 0; r < larguras.length; r++) {
+                long epoca = agora / larguras[r];
+                int b = r * BALDES + (int) (epoca & (BALDES - 1));
+                if (epocas[b] != epoca) { // Balde de uma volta anterior do anel: recomeça
+                    epocas[b] = epoca;
+                    contagens[b] = 0;
+                    somas[b] = 0;
+                }
+                contagens[b]++;
+                somas[b] += valor;
+            }
+        }
+
+        PoliticaVelocidade getPolitica() { return politica; }
+    }
+}
@@ -0,0 +1,383 @@
+package main.java.zothers.examples;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * 🗂️ REGISTRO DE CONTAS: Todas as contas, encontráveis pelo id, sem lock global
+ *
+ * PHP: SELECT * FROM contas WHERE id = ? (o banco cuida da concorrência)
+ * Java: um mapa em memória dividido em fragmentos pelo hash do id
+ *
+ * - Cada fragmento tem sua tabela (long[] ids + ContaBancaria[]) e seu StampedLock:
+ *   criações em fragmentos diferentes não disputam nada
+ * - buscar() usa leitura otimista: na maioria das vezes não toca em lock nenhum,
+ *   então leituras escalam com os núcleos
+ * - registrarTodas() agrupa por fragmento e trava cada um uma única vez
+ *   (tudo ou nada: com um id repetido, nenhuma conta do lote entra)
+ * - Nomes de titular passam por um pool: "Maria Silva" repetido mil vezes
+ *   vira uma única String na memória
+ */
+class RegistroContas {
+    private static final int TENTATIVAS_OTIMISTAS = 3;
+
+    private final Fragmento[] fragmentos;
+    private final int mascara;
+    private final PoolNomes nomes = new PoolNomes(1 << 16);
+
+    public RegistroContas() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public RegistroContas(int quantidadeFragmentos) {
+        int tamanho = Integer.highestOneBit(Math.max(1, quantidadeFragmentos - 1)) << 1;
+        fragmentos = new Fragmento[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            fragmentos[i] = new Fragmento();
+        }
+        mascara = tamanho - 1;
+    }
+
+    /**
+     * Registra a conta (false se já existe outra com o mesmo id)
+     */
+    public boolean registrar(ContaBancaria conta) {
+        Fragmento fragmento = fragmento(conta.getId());
+        long carimbo = fragmento.lock.writeLock();
+        try {
+            return fragmento.inserir(conta);
+        } finally {
+            fragmento.lock.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * 📥 Carga em lote: agrupa por fragmento e grava os fragmentos em paralelo,
+     * com um único lock (e no máximo um crescimento de tabela) por fragmento
+     *
+     * Tudo ou nada: os fragmentos envolvidos são travados (em ordem de índice,
+     * sem risco de deadlock entre dois lotes) e os ids conferidos antes de
+     * qualquer inserção. Quem busca só vê o lote inteiro ou nada dele.
+     *
+     * @return quantas contas foram registradas (sempre o tamanho do lote)
+     * @throws IllegalArgumentException id repetido no lote ou já registrado (nada é registrado)
+     */
+    public int registrarTodas(Collection<ContaBancaria> contas) {
+        List<List<ContaBancaria>> grupos = new ArrayList<>(fragmentos.length);
+        int esperado = contas.size() / fragmentos.length + 1;
+        for (int i = 0; i < fragmentos.length; i++) {
+            grupos.add(new ArrayList<>(esperado));
+        }
+        for (ContaBancaria conta : contas) {
+            grupos.get(indiceFragmento(conta.getId())).add(conta);
+        }
+        for (List<ContaBancaria> grupo : grupos) {
+            verificarRepetidosNoLote(grupo); // Sem lock: só olha o próprio lote
+        }
+
+        long[] carimbos = new long[fragmentos.length];
+        try {
+            for (int i = 0; i < fragmentos.length; i++) {
+                if (!grupos.get(i).isEmpty()) {
+                    carimbos[i] = fragmentos[i].lock.writeLock();
+                }
+            }
+            for (int i = 0; i < fragmentos.length; i++) {
+                for (ContaBancaria conta : grupos.get(i)) {
+                    if (fragmentos[i].buscar(conta.getId()) != null) {
+                        throw new IllegalArgumentException("Conta " + conta.getId() + " já registrada: nada foi importado");
+                    }
+                }
+            }
+            // Os carimbos do StampedLock não pertencem a uma thread: as do pool inserem sob eles
+            IntStream.range(0, fragmentos.length).parallel().forEach(i -> {
+                Fragmento fragmento = fragmentos[i];
+                List<ContaBancaria> grupo = grupos.get(i);
+                fragmento.reservar(fragmento.tamanho + grupo.size());
+                for (ContaBancaria conta : grupo) {
+                    fragmento.inserir(conta);
+                }
+            });
+            return contas.size();
+        } finally {
+            for (int i = fragmentos.length - 1; i >= 0; i--) {
+                if (carimbos[i] != 0) {
+                    fragmentos[i].lock.unlockWrite(carimbos[i]);
+                }
+            }
+        }
+    }
+
+    private static void verificarRepetidosNoLote(List<ContaBancaria> grupo) {
+        long[] ids = new long[grupo.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = grupo.get(i).getId();
+        }
+        Arrays.sort(ids);
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] == ids[i - 1]) {
+                throw new IllegalArgumentException("Conta " + ids[i] + " repetida no lote: nada foi importado");
+            }
+        }
+    }
+
+    public ContaBancaria buscar(long id) {
+        Fragmento fragmento = fragmento(id);
+
+        // Leitura otimista: sem escrever no lock (não invalida cache de outros núcleos)
+        for (int tentativa = 0; tentativa < TENTATIVAS_OTIMISTAS; tentativa++) {
+            long carimbo = fragmento.lock.tryOptimisticRead();
+            if (carimbo == 0) {
+                break; // Há um escritor agora
+            }
+            ContaBancaria encontrada = fragmento.buscarOtimista(id);
+            if (fragmento.lock.validate(carimbo)) {
+                return encontrada;
+            }
+        }
+        long carimbo = fragmento.lock.readLock();
+        try {
+            return fragmento.buscar(id);
+        } finally {
+            fragmento.lock.unlockRead(carimbo);
+        }
+    }
+
+    public boolean remover(long id) {
+        Fragmento fragmento = fragmento(id);
+        long carimbo = fragmento.lock.writeLock();
+        try {
+            return fragmento.remover(id);
+        } finally {
+            fragmento.lock.unlockWrite(carimbo);
+        }
+    }
+
+    public int size() {
+        int total = 0;
+        for (Fragmento fragmento : fragmentos) {
+            long carimbo = fragmento.lock.readLock();
+            try {
+                total += fragmento.tamanho;
+            } finally {
+                fragmento.lock.unlockRead(carimbo);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Percorre todas as contas, um fragmento por vez. As contas do fragmento
+     * são copiadas com o lock de leitura e a ação roda FORA dele (ela pode
+     * travar contas ou registrar outras sem inverter a ordem dos locks).
+     * Contas registradas ou removidas durante a volta podem ou não aparecer.
+     */
+    public void forEach(Consumer<? super ContaBancaria> acao) {
+        List<ContaBancaria> copia = new ArrayList<>();
+        for (Fragmento fragmento : fragmentos) {
+            copia.clear();
+            long carimbo = fragmento.lock.readLock();
+            try {
+                for (ContaBancaria conta : fragmento.contas) {
+                    if (conta != null) {
+                        copia.add(conta);
+                    }
+                }
+            } finally {
+                fragmento.lock.unlockRead(carimbo);
+            }
+            copia.forEach(acao);
+        }
+    }
+
+    /**
+     * Versão canônica do nome (mesmo texto → mesma instância)
+     */
+    public String nomeCanonico(String titular) {
+        return nomes.canonico(titular);
+    }
+
+    // ==========================================
+    // Internos
+    // ==========================================
+
+    private static long espalhar(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    private int indiceFragmento(long id) {
+        return (int) espalhar(id) & mascara;
+    }
+
+    private Fragmento fragmento(long id) {
+        return fragmentos[indiceFragmento(id)];
+    }
+
+    /**
+     * 🔒 FRAGMENTO: Tabela de endereçamento aberto (id → conta) com seu próprio lock
+     *
+     * Sondagem linear; remoção desloca os vizinhos para trás (sem lápides).
+     */
+    private static final class Fragmento {
+        final StampedLock lock = new StampedLock();
+        long[] ids = new long[16];
+        ContaBancaria[] contas = new ContaBancaria[16]; // null = slot vazio
+        int tamanho;
+
+        boolean inserir(ContaBancaria conta) {
+            reservar(tamanho + 1);
+            long id = conta.getId();
+            int mascara = contas.length - 1;
+            int slot = slot(id, mascara);
+            while (contas[slot] != null) {
+                if (ids[slot] == id) {
+                    return false;
+                }
+                slot = (slot + 1) & mascara;
+            }
+            ids[slot] = id;
+            contas[slot] = conta;
+            tamanho++;
+            return true;
+        }
+
+        ContaBancaria buscar(long id) {
+            int mascara = contas.length - 1;
+            int slot = slot(id, mascara);
+            while (contas[slot] != null) {
+                if (ids[slot] == id) {
+                    return contas[slot];
+                }
+                slot = (slot + 1) & mascara;
+            }
+            return null;
+        }
+
+        /**
+         * Sem lock: os arrays podem mudar no meio. Lê referências locais e limita
+         * a sondagem; o chamador descarta o resultado se o carimbo não validar.
+         */
+        ContaBancaria buscarOtimista(long id) {
+            long[] i = ids;
+            ContaBancaria[] c = contas;
+            if (i.length != c.length) {
+                return null; // Pegou uma troca de tabela pela metade
+            }
+            int mascara = c.length - 1;
+            int slot = slot(id, mascara);
+            for (int tentativas = 0; tentativas <= mascara; tentativas++) {
+                ContaBancaria conta = c[slot];
+                if (conta == null) {
+                    return null;
+                }
+                if (i[slot] == id) {
+                    return conta;
+                }
+                slot = (slot + 1) & mascara;
+            }
+            return null;
+        }
+
+        boolean remover(long id) {
+            int mascara = contas.length - 1;
+            int slot = slot(id, mascara);
+            while (contas[slot] != null && ids[slot] != id) {
+                slot = (slot + 1) & mascara;
+            }
+            if (contas[slot] == null) {
+                return false;
+            }
+            // Backward shift: puxa para o buraco quem estava fora do seu slot ideal
+            int buraco = slot;
+            int atual = (slot + 1) & mascara;
+            while (contas[atual] != null) {
+                int ideal = slot(ids[atual], mascara);
+                if (((atual - ideal) & mascara) >= ((atual - buraco) & mascara)) {
+                    ids[buraco] = ids[atual];
+                    contas[buraco] = contas[atual];
+                    buraco = atual;
+                }
+                atual = (atual + 1) & mascara;
+            }
+            contas[buraco] = null;
+            ids[buraco] = 0;
+            tamanho--;
+            return true;
+        }
+
+        /**
+         * Garante espaço para n contas com ocupação máxima de 50%
+         */
+        void reservar(int n) {
+            if ((long) n * 2 <= contas.length) {
+                return;
+            }
+            int capacidade = Integer.highestOneBit(Math.max(16, n * 2 - 1)) << 1;
+            long[] idsAntigos = ids;
+            ContaBancaria[] contasAntigas = contas;
+            long[] novosIds = new long[capacidade];
+            ContaBancaria[] novasContas = new ContaBancaria[capacidade];
+            int mascara = capacidade - 1;
+            for (int i = 0; i < contasAntigas.length; i++) {
+                if (contasAntigas[i] != null) {
+                    int slot = slot(idsAntigos[i], mascara);
+                    while (novasContas[slot] != null) {
+                        slot = (slot + 1) & mascara;
+                    }
+                    novosIds[slot] = idsAntigos[i];
+                    novasContas[slot] = contasAntigas[i];
+                }
+            }
+            ids = novosIds;
+            contas = novasContas;
+        }
+
+        private static int slot(long id, int mascara) {
+            return (int) (espalhar(id) >>> 32) & mascara; // Bits altos: os baixos escolheram o fragmento
+        }
+    }
+
+    /**
+     * 🔤 POOL DE NOMES: Deduplica titulares sem lock e com memória limitada
+     *
+     * Cache associativo de 2 vias: cada nome pode ficar em 2 slots vizinhos
+     * escolhidos pelo hash. Se um deles já tem o mesmo texto, devolve a
+     * instância guardada; senão guarda a nova (num slot vazio, se houver).
+     * Colisões só fazem perder a deduplicação, nunca o nome.
+     */
+    private static final class PoolNomes {
+        private final AtomicReferenceArray<String> slots;
+        private final int deslocamento;
+
+        PoolNomes(int tamanho) { // Potência de 2
+            slots = new AtomicReferenceArray<>(tamanho);
+            deslocamento = 32 - Integer.numberOfTrailingZeros(tamanho);
+        }
+
+        String canonico(String nome) {
+            if (nome == null) {
+                return null;
+            }
+            // hashCode de textos parecidos é quase sequencial: multiplica e usa os bits altos
+            int primeiro = ((nome.hashCode() * 0x9E3779B9) >>> deslocamento) & ~1;
+            String a = slots.getAcquire(primeiro);
+            if (nome.equals(a)) {
+                return a;
+            }
+            String b = slots.getAcquire(primeiro + 1);
+            if (nome.equals(b)) {
+                return b;
+            }
+            // Disputa entre threads só custa uma cópia a mais do nome
+            slots.setRelease(a == null || b != null ? primeiro : primeiro + 1, nome);
+            return nome;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package main.java.zothers.examples;
+
+/**
+ * 🚦 RESULTADO DE OPERAÇÃO: Código de retorno em vez de exception
+ *
+ * PHP: return ['ok' => false, 'erro' => 'saldo_insuficiente'];
+ * Java: return ResultadoOperacao.SALDO_INSUFICIENTE;
+ *
+ * Para caminhos quentes onde falhar é normal (saque sem saldo, lote de
+ * transferências): não cria objeto, não captura pilha, não formata texto.
+ * O código (byte) cabe num byte[] de resultados por operação.
+ */
+enum ResultadoOperacao {
+    OK(0, "Operação concluída"),
+    SALDO_INSUFICIENTE(1, "Saldo insuficiente"),
+    VALOR_INVALIDO(2, "Valor deve ser positivo"),
+    MESMA_CONTA(3, "Origem e destino são a mesma conta"),
+    CONTA_INEXISTENTE(4, "Conta não encontrada"),
+    LIMITE_VELOCIDADE(5, "Limite de saídas por período excedido");
+
+    private static final ResultadoOperacao[] POR_CODIGO = values();
+
+    final byte codigo;
+    final String descricao;
+
+    ResultadoOperacao(int codigo, String descricao) {
+        this.codigo = (byte) codigo;
+        this.descricao = descricao;
+    }
+
+    boolean sucesso() {
+        return this == OK;
+    }
+
+    static ResultadoOperacao deCodigo(byte codigo) {
+        return POR_CODIGO[codigo]; // Códigos iguais à ordem de declaração
+    }
+}
@@ -0,0 +1,42 @@
+package main.java.zothers.examples;
+
+/**
+ * 🟠 RUNTIME EXCEPTION: Para erros de lógica
+ */
+class SaldoInsuficienteException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private long saldoAtualCentavos;
+    private long valorSaqueCentavos;
+    private String mensagem; // Formatada na primeira chamada de getMessage()
+    
+    public SaldoInsuficienteException(long saldoAtualCentavos, long valorSaqueCentavos) {
+        this(saldoAtualCentavos, valorSaqueCentavos, true);
+    }
+    
+    private SaldoInsuficienteException(long saldoAtualCentavos, long valorSaqueCentavos, boolean comPilha) {
+        super(null, null, false, comPilha);
+        this.saldoAtualCentavos = saldoAtualCentavos;
+        this.valorSaqueCentavos = valorSaqueCentavos;
+    }
+    
+    /**
+     * ⚡ Sem stack trace: saldo insuficiente é regra de negócio, não bug
+     */
+    static SaldoInsuficienteException semPilha(long saldoAtualCentavos, long valorSaqueCentavos) {
+        return new SaldoInsuficienteException(saldoAtualCentavos, valorSaqueCentavos, false);
+    }
+    
+    @Override
+    public String getMessage() {
+        if (mensagem == null) {
+            StringBuilder texto = new StringBuilder(64).append("Saldo insuficiente: R$ ");
+            Dinheiro.anexar(texto, saldoAtualCentavos).append(" (tentativa: R$ ");
+            mensagem = Dinheiro.anexar(texto, valorSaqueCentavos).append(')').toString();
+        }
+        return mensagem;
+    }
+    
+    public long getSaldoAtualCentavos() { return saldoAtualCentavos; }
+    public long getValorSaqueCentavos() { return valorSaqueCentavos; }
+}
@@ -0,0 +1,46 @@
+package main.java.zothers.examples;
+
+/**
+ * 🔴 EXCEPTION CUSTOMIZADA: Como PHP Exception
+ * 
+ * PHP: class MinhaException extends Exception { ... }
+ * Java: class MinhaException extends Exception { ... }
+ */
+class UsuarioInvalidoException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private String campo;
+    private Object valor;
+    private String mensagemCompleta; // Montada só se alguém pedir getMessage()
+    
+    public UsuarioInvalidoException(String campo, Object valor, String mensagem) {
+        super(mensagem);
+        this.campo = campo;
+        this.valor = valor;
+    }
+    
+    private UsuarioInvalidoException(String campo, Object valor, String mensagem, boolean comPilha) {
+        super(mensagem, null, false, comPilha);
+        this.campo = campo;
+        this.valor = valor;
+    }
+    
+    /**
+     * ⚡ Sem stack trace: para validações em caminho quente, onde a pilha não
+     * ajuda ninguém e fillInStackTrace custa microssegundos
+     */
+    static UsuarioInvalidoException semPilha(String campo, Object valor, String mensagem) {
+        return new UsuarioInvalidoException(campo, valor, mensagem, false);
+    }
+    
+    public String getCampo() { return campo; }
+    public Object getValor() { return valor; }
+    
+    @Override
+    public String getMessage() {
+        if (mensagemCompleta == null) {
+            mensagemCompleta = "❌ Campo '" + campo + "' inválido (valor: " + valor + "): " + super.getMessage();
+        }
+        return mensagemCompleta;
+    }
+}